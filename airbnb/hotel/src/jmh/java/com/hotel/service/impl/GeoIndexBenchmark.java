@@ -0,0 +1,136 @@
+package com.hotel.service.impl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Nearby and viewport queries against hotels spread over populated latitudes, the viewports
+// ranging from a neighbourhood to the whole world, which is the case that walks occupied cells.
+// The FullScan methods are the baseline: the same queries as a linear pass over every hotel, as a
+// bounding-box WHERE clause without a spatial index would run them.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeoIndexBenchmark {
+
+    @Param({ "100000", "1000000" })
+    private int hotels;
+
+    private GeoIndex index;
+
+    private double[] latitudes;
+    private double[] longitudes;
+
+    @Setup
+    public void setUp() {
+        index = new GeoIndex();
+        ReflectionTestUtils.setField(index, "cellSize", 0.1);
+        index.postConstruct();
+        latitudes = new double[hotels];
+        longitudes = new double[hotels];
+        Random random = new Random(42);
+        for (int i = 0; i < hotels; i++) {
+            latitudes[i] = -55 + 125 * random.nextDouble();
+            longitudes[i] = -180 + 360 * random.nextDouble();
+            index.upsert(i, latitudes[i], longitudes[i]);
+        }
+    }
+
+    @Benchmark
+    public GeoIndex.Hits nearest10Km() {
+        return index.nearest(15.5, 73.8, 10, 20);
+    }
+
+    @Benchmark
+    public GeoIndex.Hits cityViewport() {
+        return index.withinBox(15.3, 73.6, 15.7, 74.0, 20);
+    }
+
+    @Benchmark
+    public GeoIndex.Hits countryViewport() {
+        return index.withinBox(8, 68, 35, 97, 20);
+    }
+
+    @Benchmark
+    public GeoIndex.Hits worldViewport() {
+        return index.withinBox(-90, -180, 90, 180, 20);
+    }
+
+    @Benchmark
+    public long[] nearest10KmFullScan() {
+        return nearestByScan(15.5, 73.8, 10, 20);
+    }
+
+    @Benchmark
+    public long[] countryViewportFullScan() {
+        return withinBoxByScan(8, 68, 35, 97, 20);
+    }
+
+    private long[] nearestByScan(double latitude, double longitude, double radiusKm, int k) {
+        double latDelta = radiusKm / 111.2;
+        double lonDelta = latDelta / Math.cos(Math.toRadians(latitude));
+        return scan(latitude - latDelta, longitude - lonDelta, latitude + latDelta, longitude + lonDelta,
+                latitude, longitude, radiusKm, k);
+    }
+
+    private long[] withinBoxByScan(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+                                   int k) {
+        return scan(minLatitude, minLongitude, maxLatitude, maxLongitude,
+                (minLatitude + maxLatitude) / 2, (minLongitude + maxLongitude) / 2, Double.POSITIVE_INFINITY, k);
+    }
+
+    // Every hotel is tested against the box, and the k closest to the reference point are kept,
+    // which is the answer GeoIndex gives. None of the benchmark boxes cross the antimeridian.
+    private long[] scan(double minLat, double minLon, double maxLat, double maxLon,
+                        double fromLat, double fromLon, double radiusKm, int k) {
+        long[] ids = new long[k];
+        double[] distances = new double[k];
+        int found = 0;
+        int worst = 0;
+        for (int i = 0; i < latitudes.length; i++) {
+            double lat = latitudes[i];
+            double lon = longitudes[i];
+            if (lat < minLat || lat > maxLat || lon < minLon || lon > maxLon) {
+                continue;
+            }
+            double distance = GeoIndex.haversineKm(fromLat, fromLon, lat, lon);
+            if (distance > radiusKm || (found == k && distance >= distances[worst])) {
+                continue;
+            }
+            int slot = found < k ? found++ : worst;
+            ids[slot] = i;
+            distances[slot] = distance;
+            for (int j = 0; j < found; j++) {
+                if (distances[j] > distances[worst]) {
+                    worst = j;
+                }
+            }
+        }
+        Integer[] order = new Integer[found];
+        for (int i = 0; i < found; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(distances[a], distances[b]));
+        long[] nearest = new long[found];
+        for (int i = 0; i < found; i++) {
+            nearest[i] = ids[order[i]];
+        }
+        return nearest;
+    }
+}
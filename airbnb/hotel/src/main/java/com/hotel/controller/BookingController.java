@@ -0,0 +1,59 @@
+package com.hotel.controller;
+
+import com.hotel.entity.Booking;
+import com.hotel.entity.Room;
+import com.hotel.payload.AvailableRoom;
+import com.hotel.payload.BookingDto;
+import com.hotel.payload.RoomDto;
+import com.hotel.service.BookingService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+public class BookingController {
+
+    private BookingService bookingService;
+
+    public BookingController(BookingService bookingService) {
+        this.bookingService = bookingService;
+    }
+
+    //add-room
+    @PostMapping("/hotels/{hotelId}/rooms")
+    public ResponseEntity<Room> addRoom(@PathVariable long hotelId, @RequestBody RoomDto roomDto) {
+        return new ResponseEntity<>(bookingService.addRoom(hotelId, roomDto), HttpStatus.CREATED);
+    }
+
+    //rooms-free-for-a-stay, e.g. /hotels/7/availability?checkIn=2025-01-10&checkOut=2025-01-13&guests=2
+    @GetMapping("/hotels/{hotelId}/availability")
+    public ResponseEntity<List<AvailableRoom>> getAvailability(@PathVariable long hotelId,
+                                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+                                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut,
+                                                               @RequestParam(defaultValue = "1") int guests) {
+        return new ResponseEntity<>(bookingService.getAvailableRooms(hotelId, checkIn, checkOut, guests), HttpStatus.OK);
+    }
+
+    //book-room
+    @PostMapping("/bookings")
+    public ResponseEntity<Booking> book(@RequestBody BookingDto bookingDto) {
+        return new ResponseEntity<>(bookingService.book(bookingDto), HttpStatus.CREATED);
+    }
+
+    //get-booking-by-id
+    @GetMapping("/bookings/{bookingId}")
+    public ResponseEntity<Booking> getBooking(@PathVariable long bookingId) {
+        return new ResponseEntity<>(bookingService.getByBookingId(bookingId), HttpStatus.OK);
+    }
+
+    //cancel-booking
+    @DeleteMapping("/bookings/{bookingId}")
+    public ResponseEntity<String> cancel(@PathVariable long bookingId) {
+        bookingService.cancel(bookingId);
+        return new ResponseEntity<>("Booking cancelled successfully", HttpStatus.OK);
+    }
+}
@@ -0,0 +1,79 @@
+package com.hotel.controller;
+
+import com.hotel.entity.Hotel;
+import com.hotel.payload.HotelDto;
+import com.hotel.payload.NearbyHotel;
+import com.hotel.payload.SearchCriteria;
+import com.hotel.payload.SearchResult;
+import com.hotel.service.HotelService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/hotels")
+public class HotelController {
+
+    Logger logger = LoggerFactory.getLogger(HotelController.class);
+
+    private HotelService hotelService;
+
+    public HotelController(HotelService hotelService) {
+        this.hotelService = hotelService;
+    }
+
+    //add-hotel
+    @PostMapping
+    public ResponseEntity<Hotel> addHotel(@RequestBody HotelDto hotelDto) {
+        Hotel hotel = hotelService.addHotel(hotelDto);
+        return new ResponseEntity<>(hotel, HttpStatus.CREATED);
+    }
+
+    //search-hotels, e.g. /hotels/search?city=goa&amenities=pool,wifi&minPrice=2000&maxPrice=9000&q=beach
+    @GetMapping("/search")
+    public ResponseEntity<SearchResult> search(SearchCriteria criteria) {
+        return new ResponseEntity<>(hotelService.search(criteria), HttpStatus.OK);
+    }
+
+    //hotels-near-a-point, e.g. /hotels/nearby?lat=15.49&lon=73.82&radiusKm=5&limit=20
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyHotel>> nearby(@RequestParam double lat,
+                                                    @RequestParam double lon,
+                                                    @RequestParam(defaultValue = "10") double radiusKm,
+                                                    @RequestParam(defaultValue = "20") int limit) {
+        return new ResponseEntity<>(hotelService.nearby(lat, lon, radiusKm, limit), HttpStatus.OK);
+    }
+
+    //hotels-in-a-map-viewport, e.g. /hotels/within?minLat=15.4&minLon=73.7&maxLat=15.6&maxLon=73.9&limit=50
+    @GetMapping("/within")
+    public ResponseEntity<List<NearbyHotel>> within(@RequestParam double minLat,
+                                                    @RequestParam double minLon,
+                                                    @RequestParam double maxLat,
+                                                    @RequestParam double maxLon,
+                                                    @RequestParam(defaultValue = "20") int limit) {
+        return new ResponseEntity<>(hotelService.withinBox(minLat, minLon, maxLat, maxLon, limit), HttpStatus.OK);
+    }
+
+    //get-hotel-by-id
+    @GetMapping("/{hotelId}")
+    public ResponseEntity<Hotel> getHotelById(@PathVariable long hotelId) {
+        return new ResponseEntity<>(hotelService.getByHotelId(hotelId), HttpStatus.OK);
+    }
+
+    //update-hotel
+    @PutMapping("/{hotelId}")
+    public ResponseEntity<Hotel> updateHotel(@PathVariable long hotelId, @RequestBody HotelDto hotelDto) {
+        return new ResponseEntity<>(hotelService.updateHotel(hotelId, hotelDto), HttpStatus.OK);
+    }
+
+    //delete-hotel
+    @DeleteMapping("/{hotelId}")
+    public ResponseEntity<String> deleteHotel(@PathVariable long hotelId) {
+        hotelService.deleteHotel(hotelId);
+        return new ResponseEntity<>("Hotel deleted successfully", HttpStatus.OK);
+    }
+}
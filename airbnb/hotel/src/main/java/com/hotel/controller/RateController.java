@@ -0,0 +1,58 @@
+package com.hotel.controller;
+
+import com.hotel.entity.RateRule;
+import com.hotel.payload.PriceQuote;
+import com.hotel.payload.RateRuleDto;
+import com.hotel.service.RateService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+public class RateController {
+
+    private RateService rateService;
+
+    public RateController(RateService rateService) {
+        this.rateService = rateService;
+    }
+
+    //add-rate-rule
+    @PostMapping("/hotels/{hotelId}/rates")
+    public ResponseEntity<RateRule> addRule(@PathVariable long hotelId, @RequestBody RateRuleDto rateRuleDto) {
+        return new ResponseEntity<>(rateService.addRule(hotelId, rateRuleDto), HttpStatus.CREATED);
+    }
+
+    //rate-rules-of-a-hotel
+    @GetMapping("/hotels/{hotelId}/rates")
+    public ResponseEntity<List<RateRule>> getRules(@PathVariable long hotelId) {
+        return new ResponseEntity<>(rateService.getRules(hotelId), HttpStatus.OK);
+    }
+
+    //delete-rate-rule
+    @DeleteMapping("/hotels/rates/{ruleId}")
+    public ResponseEntity<String> deleteRule(@PathVariable long ruleId) {
+        rateService.deleteRule(ruleId);
+        return new ResponseEntity<>("Rate rule deleted successfully", HttpStatus.OK);
+    }
+
+    //quote-a-stay, e.g. /hotels/7/quote?checkIn=2025-01-10&checkOut=2025-01-17
+    @GetMapping("/hotels/{hotelId}/quote")
+    public ResponseEntity<PriceQuote> quote(@PathVariable long hotelId,
+                                            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+                                            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut) {
+        return new ResponseEntity<>(rateService.quote(hotelId, checkIn, checkOut), HttpStatus.OK);
+    }
+
+    //quote-a-stay-for-a-result-page, e.g. /hotels/quotes?hotelIds=3,7,9&checkIn=2025-01-10&checkOut=2025-01-17
+    @GetMapping("/hotels/quotes")
+    public ResponseEntity<List<PriceQuote>> quotes(@RequestParam List<Long> hotelIds,
+                                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+                                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut) {
+        return new ResponseEntity<>(rateService.quote(hotelIds, checkIn, checkOut), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,94 @@
+package com.hotel.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "bookings", indexes = {
+        @Index(name = "idx_bookings_room_id", columnList = "room_id"),
+        @Index(name = "idx_bookings_check_out", columnList = "check_out")
+})
+public class Booking {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "booking_id", nullable = false)
+    private Long bookingId;
+
+    @Column(name = "room_id", nullable = false)
+    private long roomId;
+
+    @Column(name = "hotel_id", nullable = false)
+    private long hotelId;
+
+    @Column(name = "guest_name", nullable = false, length = 100)
+    private String guestName;
+
+    // first night stayed
+    @Column(name = "check_in", nullable = false)
+    private LocalDate checkIn;
+
+    // day of departure, not a night stayed
+    @Column(name = "check_out", nullable = false)
+    private LocalDate checkOut;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    public Long getBookingId() {
+        return bookingId;
+    }
+
+    public void setBookingId(Long bookingId) {
+        this.bookingId = bookingId;
+    }
+
+    public long getRoomId() {
+        return roomId;
+    }
+
+    public void setRoomId(long roomId) {
+        this.roomId = roomId;
+    }
+
+    public long getHotelId() {
+        return hotelId;
+    }
+
+    public void setHotelId(long hotelId) {
+        this.hotelId = hotelId;
+    }
+
+    public String getGuestName() {
+        return guestName;
+    }
+
+    public void setGuestName(String guestName) {
+        this.guestName = guestName;
+    }
+
+    public LocalDate getCheckIn() {
+        return checkIn;
+    }
+
+    public void setCheckIn(LocalDate checkIn) {
+        this.checkIn = checkIn;
+    }
+
+    public LocalDate getCheckOut() {
+        return checkOut;
+    }
+
+    public void setCheckOut(LocalDate checkOut) {
+        this.checkOut = checkOut;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
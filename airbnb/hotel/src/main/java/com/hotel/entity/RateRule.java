@@ -0,0 +1,112 @@
+package com.hotel.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+
+// A pricing rule of one hotel. Season and day-of-week rules move the nightly price of the days
+// they cover, length-of-stay rules adjust the total of a long enough stay and tax rules are added
+// on top; every adjustment is in basis points (+2500 is 25% more, -1000 is 10% off).
+@Entity
+@Table(name = "rate_rules", indexes = @Index(name = "idx_rate_rules_hotel_id", columnList = "hotel_id"))
+public class RateRule {
+
+    public enum Type {
+        SEASON, DAY_OF_WEEK, LENGTH_OF_STAY, TAX
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rule_id", nullable = false)
+    private Long ruleId;
+
+    @Column(name = "hotel_id", nullable = false)
+    private long hotelId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "rule_type", nullable = false, length = 20)
+    private Type type;
+
+    // first night covered; open-ended when null
+    @Column(name = "start_date")
+    private LocalDate startDate;
+
+    // first night no longer covered; open-ended when null
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    // DAY_OF_WEEK only: bit (DayOfWeek.getValue() - 1) set for every night of the week covered
+    @Column(name = "days_of_week")
+    private Integer daysOfWeek;
+
+    // LENGTH_OF_STAY only: the rule applies to stays of at least this many nights
+    @Column(name = "min_nights")
+    private Integer minNights;
+
+    @Column(name = "adjustment_bps", nullable = false)
+    private int adjustmentBps;
+
+    public Long getRuleId() {
+        return ruleId;
+    }
+
+    public void setRuleId(Long ruleId) {
+        this.ruleId = ruleId;
+    }
+
+    public long getHotelId() {
+        return hotelId;
+    }
+
+    public void setHotelId(long hotelId) {
+        this.hotelId = hotelId;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public Integer getDaysOfWeek() {
+        return daysOfWeek;
+    }
+
+    public void setDaysOfWeek(Integer daysOfWeek) {
+        this.daysOfWeek = daysOfWeek;
+    }
+
+    public Integer getMinNights() {
+        return minNights;
+    }
+
+    public void setMinNights(Integer minNights) {
+        this.minNights = minNights;
+    }
+
+    public int getAdjustmentBps() {
+        return adjustmentBps;
+    }
+
+    public void setAdjustmentBps(int adjustmentBps) {
+        this.adjustmentBps = adjustmentBps;
+    }
+}
@@ -0,0 +1,54 @@
+package com.hotel.entity;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "rooms", indexes = @Index(name = "idx_rooms_hotel_id", columnList = "hotel_id"))
+public class Room {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    @Column(name = "hotel_id", nullable = false)
+    private long hotelId;
+
+    @Column(name = "name", nullable = false, length = 50)
+    private String name;
+
+    // maximum number of guests
+    @Column(name = "capacity", nullable = false)
+    private int capacity;
+
+    public Long getRoomId() {
+        return roomId;
+    }
+
+    public void setRoomId(Long roomId) {
+        this.roomId = roomId;
+    }
+
+    public long getHotelId() {
+        return hotelId;
+    }
+
+    public void setHotelId(long hotelId) {
+        this.hotelId = hotelId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+}
@@ -0,0 +1,7 @@
+package com.hotel.exception;
+
+public class RateRuleNotFoundException extends RuntimeException {
+    public RateRuleNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,27 @@
+package com.hotel.payload;
+
+// A room that is free for every night of the requested stay; served from the in-memory calendar.
+public class AvailableRoom {
+
+    private final long roomId;
+    private final String name;
+    private final int capacity;
+
+    public AvailableRoom(long roomId, String name, int capacity) {
+        this.roomId = roomId;
+        this.name = name;
+        this.capacity = capacity;
+    }
+
+    public long getRoomId() {
+        return roomId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,68 @@
+package com.hotel.payload;
+
+public class HotelDto {
+
+    private String name;
+    private String city;
+    private String description;
+    private String amenities;
+    private Integer pricePerNight;
+    private Double latitude;
+    private Double longitude;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getAmenities() {
+        return amenities;
+    }
+
+    public void setAmenities(String amenities) {
+        this.amenities = amenities;
+    }
+
+    public Integer getPricePerNight() {
+        return pricePerNight;
+    }
+
+    public void setPricePerNight(Integer pricePerNight) {
+        this.pricePerNight = pricePerNight;
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+}
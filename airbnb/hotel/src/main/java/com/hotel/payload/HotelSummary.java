@@ -0,0 +1,33 @@
+package com.hotel.payload;
+
+// What a search result row needs to render; served from the in-memory index without a DB read.
+public class HotelSummary {
+
+    private final long hotelId;
+    private final String name;
+    private final String city;
+    private final int pricePerNight;
+
+    public HotelSummary(long hotelId, String name, String city, int pricePerNight) {
+        this.hotelId = hotelId;
+        this.name = name;
+        this.city = city;
+        this.pricePerNight = pricePerNight;
+    }
+
+    public long getHotelId() {
+        return hotelId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public int getPricePerNight() {
+        return pricePerNight;
+    }
+}
@@ -0,0 +1,20 @@
+package com.hotel.payload;
+
+public class NearbyHotel {
+
+    private final HotelSummary hotel;
+    private final double distanceKm;
+
+    public NearbyHotel(HotelSummary hotel, double distanceKm) {
+        this.hotel = hotel;
+        this.distanceKm = distanceKm;
+    }
+
+    public HotelSummary getHotel() {
+        return hotel;
+    }
+
+    public double getDistanceKm() {
+        return distanceKm;
+    }
+}
@@ -0,0 +1,46 @@
+package com.hotel.payload;
+
+// Total price of a stay in cents: the nightly prices, the length-of-stay adjustment (negative for
+// a discount) and the taxes on the adjusted amount. Served from the precomputed rate tables.
+public class PriceQuote {
+
+    private final long hotelId;
+    private final int nights;
+    private final long subtotal;
+    private final long lengthOfStayAdjustment;
+    private final long tax;
+    private final long total;
+
+    public PriceQuote(long hotelId, int nights, long subtotal, long lengthOfStayAdjustment, long tax) {
+        this.hotelId = hotelId;
+        this.nights = nights;
+        this.subtotal = subtotal;
+        this.lengthOfStayAdjustment = lengthOfStayAdjustment;
+        this.tax = tax;
+        this.total = subtotal + lengthOfStayAdjustment + tax;
+    }
+
+    public long getHotelId() {
+        return hotelId;
+    }
+
+    public int getNights() {
+        return nights;
+    }
+
+    public long getSubtotal() {
+        return subtotal;
+    }
+
+    public long getLengthOfStayAdjustment() {
+        return lengthOfStayAdjustment;
+    }
+
+    public long getTax() {
+        return tax;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+}
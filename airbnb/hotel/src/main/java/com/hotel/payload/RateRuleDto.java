@@ -0,0 +1,65 @@
+package com.hotel.payload;
+
+import com.hotel.entity.RateRule;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Set;
+
+public class RateRuleDto {
+
+    private RateRule.Type type;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Set<DayOfWeek> daysOfWeek;
+    private Integer minNights;
+    private Integer adjustmentBps;
+
+    public RateRule.Type getType() {
+        return type;
+    }
+
+    public void setType(RateRule.Type type) {
+        this.type = type;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public Set<DayOfWeek> getDaysOfWeek() {
+        return daysOfWeek;
+    }
+
+    public void setDaysOfWeek(Set<DayOfWeek> daysOfWeek) {
+        this.daysOfWeek = daysOfWeek;
+    }
+
+    public Integer getMinNights() {
+        return minNights;
+    }
+
+    public void setMinNights(Integer minNights) {
+        this.minNights = minNights;
+    }
+
+    public Integer getAdjustmentBps() {
+        return adjustmentBps;
+    }
+
+    public void setAdjustmentBps(Integer adjustmentBps) {
+        this.adjustmentBps = adjustmentBps;
+    }
+}
@@ -0,0 +1,23 @@
+package com.hotel.payload;
+
+public class RoomDto {
+
+    private String name;
+    private Integer capacity;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+}
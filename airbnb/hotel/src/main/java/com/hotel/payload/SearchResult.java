@@ -0,0 +1,22 @@
+package com.hotel.payload;
+
+import java.util.List;
+
+public class SearchResult {
+
+    private final int total;
+    private final List<HotelSummary> hotels;
+
+    public SearchResult(int total, List<HotelSummary> hotels) {
+        this.total = total;
+        this.hotels = hotels;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public List<HotelSummary> getHotels() {
+        return hotels;
+    }
+}
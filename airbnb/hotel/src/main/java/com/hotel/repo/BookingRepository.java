@@ -0,0 +1,24 @@
+package com.hotel.repo;
+
+import com.hotel.entity.Booking;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface BookingRepository extends JpaRepository<Booking, Long> {
+
+    // keyset pages of bookings that still occupy a night on or after the given day
+    List<Booking> findByCheckOutAfterAndBookingIdGreaterThanOrderByBookingIdAsc(LocalDate day, Long bookingId, Pageable pageable);
+
+    // 0 when a concurrent cancel already removed the row
+    @Transactional
+    @Modifying
+    @Query("delete from Booking b where b.bookingId = :bookingId")
+    int deleteByBookingId(@Param("bookingId") long bookingId);
+}
@@ -0,0 +1,13 @@
+package com.hotel.repo;
+
+import com.hotel.entity.Hotel;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface HotelRepository extends JpaRepository<Hotel, Long> {
+
+    // keyset pages used to stream the table into the in-memory indexes at startup
+    List<Hotel> findByHotelIdGreaterThanOrderByHotelIdAsc(Long hotelId, Pageable pageable);
+}
@@ -0,0 +1,15 @@
+package com.hotel.repo;
+
+import com.hotel.entity.RateRule;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface RateRuleRepository extends JpaRepository<RateRule, Long> {
+
+    List<RateRule> findByHotelIdOrderByRuleIdAsc(long hotelId);
+
+    // keyset pages used to compile the rate tables at startup
+    List<RateRule> findByRuleIdGreaterThanOrderByRuleIdAsc(Long ruleId, Pageable pageable);
+}
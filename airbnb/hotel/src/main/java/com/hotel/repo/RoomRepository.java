@@ -0,0 +1,22 @@
+package com.hotel.repo;
+
+import com.hotel.entity.Room;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface RoomRepository extends JpaRepository<Room, Long> {
+
+    // keyset pages used to load the availability calendar at startup
+    List<Room> findByRoomIdGreaterThanOrderByRoomIdAsc(Long roomId, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Room r where r.hotelId = :hotelId")
+    int deleteByHotelId(@Param("hotelId") long hotelId);
+}
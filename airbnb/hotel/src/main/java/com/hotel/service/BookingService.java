@@ -0,0 +1,28 @@
+package com.hotel.service;
+
+import com.hotel.entity.Booking;
+import com.hotel.entity.Room;
+import com.hotel.payload.AvailableRoom;
+import com.hotel.payload.BookingDto;
+import com.hotel.payload.RoomDto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface BookingService {
+
+    //add-room
+    Room addRoom(long hotelId, RoomDto roomDto);
+
+    //rooms-free-for-a-stay
+    List<AvailableRoom> getAvailableRooms(long hotelId, LocalDate checkIn, LocalDate checkOut, int guests);
+
+    //book-room
+    Booking book(BookingDto bookingDto);
+
+    //get-booking-by-id
+    Booking getByBookingId(long bookingId);
+
+    //cancel-booking
+    void cancel(long bookingId);
+}
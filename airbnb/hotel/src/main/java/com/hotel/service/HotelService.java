@@ -0,0 +1,33 @@
+package com.hotel.service;
+
+import com.hotel.entity.Hotel;
+import com.hotel.payload.HotelDto;
+import com.hotel.payload.NearbyHotel;
+import com.hotel.payload.SearchCriteria;
+import com.hotel.payload.SearchResult;
+
+import java.util.List;
+
+public interface HotelService {
+
+    //add-hotel
+    Hotel addHotel(HotelDto hotelDto);
+
+    //get-hotel-by-id
+    Hotel getByHotelId(long hotelId);
+
+    //update-hotel
+    Hotel updateHotel(long hotelId, HotelDto hotelDto);
+
+    //delete-hotel
+    void deleteHotel(long hotelId);
+
+    //search-hotels
+    SearchResult search(SearchCriteria criteria);
+
+    //hotels-near-a-point, nearest first
+    List<NearbyHotel> nearby(double latitude, double longitude, double radiusKm, int limit);
+
+    //hotels-inside-a-bounding-box, nearest to its centre first
+    List<NearbyHotel> withinBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude, int limit);
+}
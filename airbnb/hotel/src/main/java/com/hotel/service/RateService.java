@@ -0,0 +1,26 @@
+package com.hotel.service;
+
+import com.hotel.entity.RateRule;
+import com.hotel.payload.PriceQuote;
+import com.hotel.payload.RateRuleDto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface RateService {
+
+    //add-rate-rule
+    RateRule addRule(long hotelId, RateRuleDto rateRuleDto);
+
+    //rate-rules-of-a-hotel
+    List<RateRule> getRules(long hotelId);
+
+    //delete-rate-rule
+    void deleteRule(long ruleId);
+
+    //quote-a-stay
+    PriceQuote quote(long hotelId, LocalDate checkIn, LocalDate checkOut);
+
+    //quote-a-stay-at-many-hotels, hotels without rates left out
+    List<PriceQuote> quote(List<Long> hotelIds, LocalDate checkIn, LocalDate checkOut);
+}
@@ -0,0 +1,246 @@
+package com.hotel.service.impl;
+
+import com.hotel.entity.Room;
+import com.hotel.exception.RoomNotFoundException;
+import com.hotel.exception.ValidationException;
+import com.hotel.payload.AvailableRoom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Booked nights of every room as one bit per day. Each room's bits form a ring indexed by
+// epochDay % ringDays, sized past the booking horizon, so the calendar never has to be shifted;
+// days that have passed are cleared when the date rolls over. A stay is a range of bits, so the
+// availability check is a few masked word tests and never touches the database. Bookings of one
+// room are serialised by a striped lock; readers take no lock at all.
+@Component
+public class AvailabilityCalendar {
+
+    private static final int STRIPES = 64;
+
+    @Value("${hotel.availability.horizon-days:400}")
+    private int horizonDays;
+
+    private int ringDays;
+
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+
+    private final Map<Long, RoomCalendar> rooms = new ConcurrentHashMap<>();
+
+    // copy-on-write so availability queries can iterate without locking
+    private final Map<Long, RoomCalendar[]> roomsByHotel = new ConcurrentHashMap<>();
+
+    // every ring slot of a day before this one has been cleared
+    private volatile long rolledTo;
+
+    @PostConstruct
+    public void postConstruct() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        // whole words, and at least one spare day so yesterday's slot is never inside the horizon
+        ringDays = (horizonDays / 64 + 1) * 64;
+        rolledTo = LocalDate.now().toEpochDay();
+    }
+
+    public void addRoom(Room room) {
+        RoomCalendar calendar = new RoomCalendar(room, new AtomicLongArray(ringDays / 64));
+        if (rooms.putIfAbsent(room.getRoomId(), calendar) == null) {
+            roomsByHotel.compute(room.getHotelId(), (hotelId, existing) -> {
+                if (existing == null) {
+                    return new RoomCalendar[] { calendar };
+                }
+                RoomCalendar[] grown = Arrays.copyOf(existing, existing.length + 1);
+                grown[existing.length] = calendar;
+                return grown;
+            });
+        }
+    }
+
+    // Forgets every room of a deleted hotel, so they can no longer be listed or reserved.
+    public void removeHotel(long hotelId) {
+        roomsByHotel.computeIfPresent(hotelId, (id, calendars) -> {
+            for (RoomCalendar calendar : calendars) {
+                rooms.remove(calendar.roomId);
+            }
+            return null;
+        });
+    }
+
+    // The hotel a room belongs to, or null for an unknown room.
+    public Long hotelOf(long roomId) {
+        RoomCalendar calendar = rooms.get(roomId);
+        return calendar == null ? null : calendar.hotelId;
+    }
+
+    public List<AvailableRoom> availableRooms(long hotelId, LocalDate checkIn, LocalDate checkOut, int guests) {
+        long from = checkIn.toEpochDay();
+        long to = checkOut.toEpochDay();
+        requireStay(from, to);
+        RoomCalendar[] candidates = roomsByHotel.get(hotelId);
+        if (candidates == null) {
+            return new ArrayList<>();
+        }
+        List<AvailableRoom> available = new ArrayList<>();
+        for (RoomCalendar calendar : candidates) {
+            if (calendar.capacity >= guests && !anyBooked(calendar.nights, from, to)) {
+                available.add(new AvailableRoom(calendar.roomId, calendar.name, calendar.capacity));
+            }
+        }
+        return available;
+    }
+
+    // Atomically claims every night of the stay; false if any of them is already booked.
+    public boolean reserve(long roomId, LocalDate checkIn, LocalDate checkOut) {
+        long from = checkIn.toEpochDay();
+        long to = checkOut.toEpochDay();
+        requireStay(from, to);
+        RoomCalendar calendar = rooms.get(roomId);
+        if (calendar == null) {
+            throw new RoomNotFoundException("Room not found with ID: " + roomId);
+        }
+        ReentrantLock stripe = stripeOf(roomId);
+        stripe.lock();
+        try {
+            if (anyBooked(calendar.nights, from, to)) {
+                return false;
+            }
+            apply(calendar.nights, from, to, true);
+            return true;
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    // Frees the nights of a cancelled or failed booking that are still inside the horizon.
+    public void release(long roomId, LocalDate checkIn, LocalDate checkOut) {
+        update(roomId, checkIn, checkOut, false);
+    }
+
+    // Marks a booking loaded from the database, without checking for overlaps.
+    public void markBooked(long roomId, LocalDate checkIn, LocalDate checkOut) {
+        update(roomId, checkIn, checkOut, true);
+    }
+
+    public int size() {
+        return rooms.size();
+    }
+
+    private void update(long roomId, LocalDate checkIn, LocalDate checkOut, boolean booked) {
+        long today = today();
+        long from = Math.max(checkIn.toEpochDay(), today);
+        long to = Math.min(checkOut.toEpochDay(), today + horizonDays);
+        RoomCalendar calendar = rooms.get(roomId);
+        if (calendar == null || from >= to) {
+            return;
+        }
+        ReentrantLock stripe = stripeOf(roomId);
+        stripe.lock();
+        try {
+            apply(calendar.nights, from, to, booked);
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    private void requireStay(long from, long to) {
+        long today = today();
+        if (from < today || to <= from || to > today + horizonDays) {
+            throw new ValidationException("stay must start today or later, last at least one night and end within "
+                    + horizonDays + " days");
+        }
+    }
+
+    // Also rolls the calendar forward the first time it is used on a new day.
+    private long today() {
+        long today = LocalDate.now().toEpochDay();
+        if (today > rolledTo) {
+            roll(today);
+        }
+        return today;
+    }
+
+    private synchronized void roll(long today) {
+        long from = rolledTo;
+        if (today <= from) {
+            return;
+        }
+        long to = Math.min(today, from + ringDays);
+        for (RoomCalendar calendar : rooms.values()) {
+            ReentrantLock stripe = stripeOf(calendar.roomId);
+            stripe.lock();
+            try {
+                apply(calendar.nights, from, to, false);
+            } finally {
+                stripe.unlock();
+            }
+        }
+        rolledTo = today;
+    }
+
+    // Ranges are at most ringDays long. ringDays is a multiple of 64, so a word never spans the
+    // end of the ring and each step covers the rest of the current word or the rest of the range.
+    private boolean anyBooked(AtomicLongArray nights, long from, long to) {
+        int slot = (int) Math.floorMod(from, (long) ringDays);
+        long remaining = to - from;
+        while (remaining > 0) {
+            int bit = slot & 63;
+            int count = (int) Math.min(64 - bit, remaining);
+            if ((nights.get(slot >>> 6) & mask(bit, count)) != 0) {
+                return true;
+            }
+            remaining -= count;
+            slot = (slot + count) % ringDays;
+        }
+        return false;
+    }
+
+    // Callers hold the room's stripe lock, so plain get/set pairs are not lost to other writers.
+    private void apply(AtomicLongArray nights, long from, long to, boolean booked) {
+        int slot = (int) Math.floorMod(from, (long) ringDays);
+        long remaining = to - from;
+        while (remaining > 0) {
+            int bit = slot & 63;
+            int count = (int) Math.min(64 - bit, remaining);
+            int word = slot >>> 6;
+            long mask = mask(bit, count);
+            long value = nights.get(word);
+            nights.set(word, booked ? value | mask : value & ~mask);
+            remaining -= count;
+            slot = (slot + count) % ringDays;
+        }
+    }
+
+    private static long mask(int bit, int count) {
+        return count == 64 ? -1L : ((1L << count) - 1) << bit;
+    }
+
+    private ReentrantLock stripeOf(long roomId) {
+        return stripes[Long.hashCode(roomId) & (STRIPES - 1)];
+    }
+
+    private static final class RoomCalendar {
+        private final long roomId;
+        private final long hotelId;
+        private final String name;
+        private final int capacity;
+        private final AtomicLongArray nights;
+
+        private RoomCalendar(Room room, AtomicLongArray nights) {
+            this.roomId = room.getRoomId();
+            this.hotelId = room.getHotelId();
+            this.name = room.getName();
+            this.capacity = room.getCapacity();
+            this.nights = nights;
+        }
+    }
+}
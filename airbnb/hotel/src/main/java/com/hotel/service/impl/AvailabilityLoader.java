@@ -0,0 +1,74 @@
+package com.hotel.service.impl;
+
+import com.hotel.entity.Booking;
+import com.hotel.entity.Room;
+import com.hotel.repo.BookingRepository;
+import com.hotel.repo.RoomRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDate;
+import java.util.List;
+
+// Rebuilds the availability calendar from MySQL at startup: every room, then every booking that
+// still has a night from today on. Both tables are read in keyset pages.
+@Component
+@Lazy(false)
+public class AvailabilityLoader {
+
+    Logger logger = LoggerFactory.getLogger(AvailabilityLoader.class);
+
+    private RoomRepository roomRepository;
+    private BookingRepository bookingRepository;
+    private AvailabilityCalendar availabilityCalendar;
+
+    @Value("${hotel.index.load-page-size:5000}")
+    private int pageSize;
+
+    public AvailabilityLoader(RoomRepository roomRepository, BookingRepository bookingRepository,
+                              AvailabilityCalendar availabilityCalendar) {
+        this.roomRepository = roomRepository;
+        this.bookingRepository = bookingRepository;
+        this.availabilityCalendar = availabilityCalendar;
+    }
+
+    // Before the web server starts: a booking against a half-loaded calendar would see sold nights as free.
+    @PostConstruct
+    public void load() {
+        long start = System.currentTimeMillis();
+        long lastRoomId = 0;
+        List<Room> rooms;
+        do {
+            rooms = roomRepository.findByRoomIdGreaterThanOrderByRoomIdAsc(lastRoomId, PageRequest.of(0, pageSize));
+            for (Room room : rooms) {
+                availabilityCalendar.addRoom(room);
+            }
+            if (!rooms.isEmpty()) {
+                lastRoomId = rooms.get(rooms.size() - 1).getRoomId();
+            }
+        } while (rooms.size() == pageSize);
+
+        LocalDate today = LocalDate.now();
+        long lastBookingId = 0;
+        long loaded = 0;
+        List<Booking> bookings;
+        do {
+            bookings = bookingRepository.findByCheckOutAfterAndBookingIdGreaterThanOrderByBookingIdAsc(
+                    today, lastBookingId, PageRequest.of(0, pageSize));
+            for (Booking booking : bookings) {
+                availabilityCalendar.markBooked(booking.getRoomId(), booking.getCheckIn(), booking.getCheckOut());
+            }
+            loaded += bookings.size();
+            if (!bookings.isEmpty()) {
+                lastBookingId = bookings.get(bookings.size() - 1).getBookingId();
+            }
+        } while (bookings.size() == pageSize);
+        logger.info("Loaded {} rooms and {} upcoming bookings in {} ms",
+                availabilityCalendar.size(), loaded, System.currentTimeMillis() - start);
+    }
+}
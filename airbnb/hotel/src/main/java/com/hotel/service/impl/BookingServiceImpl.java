@@ -0,0 +1,107 @@
+package com.hotel.service.impl;
+
+import com.hotel.entity.Booking;
+import com.hotel.entity.Room;
+import com.hotel.exception.BookingConflictException;
+import com.hotel.exception.BookingNotFoundException;
+import com.hotel.exception.HotelNotFoundException;
+import com.hotel.exception.RoomNotFoundException;
+import com.hotel.exception.ValidationException;
+import com.hotel.payload.AvailableRoom;
+import com.hotel.payload.BookingDto;
+import com.hotel.payload.RoomDto;
+import com.hotel.repo.BookingRepository;
+import com.hotel.repo.HotelRepository;
+import com.hotel.repo.RoomRepository;
+import com.hotel.service.BookingService;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+// The calendar is the source of truth for whether a night is free: a booking first claims its
+// nights there and only then writes the durable row, releasing the nights if that write fails.
+@Service
+public class BookingServiceImpl implements BookingService {
+
+    private HotelRepository hotelRepository;
+    private RoomRepository roomRepository;
+    private BookingRepository bookingRepository;
+    private AvailabilityCalendar availabilityCalendar;
+
+    public BookingServiceImpl(HotelRepository hotelRepository, RoomRepository roomRepository,
+                              BookingRepository bookingRepository, AvailabilityCalendar availabilityCalendar) {
+        this.hotelRepository = hotelRepository;
+        this.roomRepository = roomRepository;
+        this.bookingRepository = bookingRepository;
+        this.availabilityCalendar = availabilityCalendar;
+    }
+
+    @Override
+    public Room addRoom(long hotelId, RoomDto roomDto) {
+        if (roomDto.getName() == null || roomDto.getCapacity() == null || roomDto.getCapacity() < 1) {
+            throw new ValidationException("name and a capacity of at least 1 are required");
+        }
+        if (!hotelRepository.existsById(hotelId)) {
+            throw new HotelNotFoundException("Hotel not found with ID: " + hotelId);
+        }
+        Room room = new Room();
+        room.setHotelId(hotelId);
+        room.setName(roomDto.getName());
+        room.setCapacity(roomDto.getCapacity());
+        Room saved = roomRepository.save(room);
+        availabilityCalendar.addRoom(saved);
+        return saved;
+    }
+
+    @Override
+    public List<AvailableRoom> getAvailableRooms(long hotelId, LocalDate checkIn, LocalDate checkOut, int guests) {
+        return availabilityCalendar.availableRooms(hotelId, checkIn, checkOut, Math.max(guests, 1));
+    }
+
+    @Override
+    public Booking book(BookingDto bookingDto) {
+        if (bookingDto.getRoomId() == null || bookingDto.getGuestName() == null
+                || bookingDto.getCheckIn() == null || bookingDto.getCheckOut() == null) {
+            throw new ValidationException("roomId, guestName, checkIn and checkOut are required");
+        }
+        Long hotelId = availabilityCalendar.hotelOf(bookingDto.getRoomId());
+        if (hotelId == null) {
+            throw new RoomNotFoundException("Room not found with ID: " + bookingDto.getRoomId());
+        }
+        if (!availabilityCalendar.reserve(bookingDto.getRoomId(), bookingDto.getCheckIn(), bookingDto.getCheckOut())) {
+            throw new BookingConflictException("Room " + bookingDto.getRoomId() + " is not available for the requested dates");
+        }
+
+        Booking booking = new Booking();
+        booking.setRoomId(bookingDto.getRoomId());
+        booking.setHotelId(hotelId);
+        booking.setGuestName(bookingDto.getGuestName());
+        booking.setCheckIn(bookingDto.getCheckIn());
+        booking.setCheckOut(bookingDto.getCheckOut());
+        booking.setCreatedAt(Instant.now());
+        try {
+            return bookingRepository.save(booking);
+        } catch (RuntimeException e) {
+            availabilityCalendar.release(booking.getRoomId(), booking.getCheckIn(), booking.getCheckOut());
+            throw e;
+        }
+    }
+
+    @Override
+    public Booking getByBookingId(long bookingId) {
+        return bookingRepository.findById(bookingId)
+                .orElseThrow(() -> new BookingNotFoundException("Booking not found with ID: " + bookingId));
+    }
+
+    @Override
+    public void cancel(long bookingId) {
+        Booking booking = getByBookingId(bookingId);
+        // only the cancel that actually removed the row frees the nights; a second one racing it
+        // would otherwise release nights that have been sold again in between
+        if (bookingRepository.deleteByBookingId(bookingId) == 1) {
+            availabilityCalendar.release(booking.getRoomId(), booking.getCheckIn(), booking.getCheckOut());
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package com.hotel.service.impl;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Uniform lat/lon grid over hotel coordinates. Coordinates live in primitive arrays indexed by
+// slot and each grid cell lists the slots inside it, so a query only visits the cells overlapping
+// its bounding box and keeps the k nearest in a primitive max-heap; no point objects are created.
+// A box spanning more cells than are occupied walks the occupied cells instead, so a world-sized
+// viewport costs one pass over the index rather than millions of empty lookups.
+@Component
+public class GeoIndex {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+    @Value("${hotel.geo.cell-size-degrees:0.1}")
+    private double cellSize;
+
+    private int lonCells;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> slotByHotelId = new HashMap<>();
+    private final Map<Long, Cell> cells = new HashMap<>();
+
+    private long[] hotelIds = new long[1024];
+    private double[] latitudes = new double[1024];
+    private double[] longitudes = new double[1024];
+
+    private int[] freeSlots = new int[64];
+    private int freeCount;
+    private int nextSlot;
+
+    @PostConstruct
+    public void postConstruct() {
+        lonCells = (int) Math.ceil(360 / cellSize);
+    }
+
+    public void upsert(long hotelId, double latitude, double longitude) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotByHotelId.get(hotelId);
+            if (slot != null) {
+                cellOf(latitudes[slot], longitudes[slot]).remove(slot);
+            } else {
+                slot = allocateSlot();
+                slotByHotelId.put(hotelId, slot);
+            }
+            hotelIds[slot] = hotelId;
+            latitudes[slot] = latitude;
+            longitudes[slot] = longitude;
+            cells.computeIfAbsent(cellKey(latCell(latitude), lonCell(longitude)), key -> new Cell()).add(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long hotelId) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotByHotelId.remove(hotelId);
+            if (slot != null) {
+                cellOf(latitudes[slot], longitudes[slot]).remove(slot);
+                releaseSlot(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // The k hotels nearest to the point within radiusKm, closest first.
+    public Hits nearest(double latitude, double longitude, double radiusKm, int k) {
+        double latDelta = radiusKm / KM_PER_DEGREE;
+        double cosLat = Math.cos(Math.toRadians(latitude));
+        double lonDelta = cosLat < 1e-9 ? 180 : Math.min(180, latDelta / cosLat);
+        return search(latitude - latDelta, longitude - lonDelta, latitude + latDelta, longitude + lonDelta,
+                latitude, longitude, radiusKm, k);
+    }
+
+    // The k hotels inside the box nearest to its centre, closest first.
+    public Hits withinBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude, int k) {
+        double centreLatitude = (minLatitude + maxLatitude) / 2;
+        double centreLongitude = (minLongitude + maxLongitude) / 2;
+        return search(minLatitude, minLongitude, maxLatitude, maxLongitude,
+                centreLatitude, centreLongitude, Double.POSITIVE_INFINITY, k);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotByHotelId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Hits search(double minLat, double minLon, double maxLat, double maxLon,
+                        double fromLat, double fromLon, double radiusKm, int k) {
+        Hits hits = new Hits(k);
+        if (k <= 0) {
+            return hits;
+        }
+        int firstLatCell = latCell(Math.max(minLat, -90));
+        int lastLatCell = latCell(Math.min(maxLat, 90));
+        // longitude cells may wrap around the antimeridian, so walk them unnormalised
+        int firstLonCell = (int) Math.floor((minLon + 180) / cellSize);
+        int lastLonCell = Math.min((int) Math.floor((maxLon + 180) / cellSize), firstLonCell + lonCells - 1);
+        int lonSpan = lastLonCell - firstLonCell;
+        boolean box = Double.isInfinite(radiusKm);
+
+        lock.readLock().lock();
+        try {
+            if ((long) (lastLatCell - firstLatCell + 1) * (lonSpan + 1) > cells.size()) {
+                // a wide box has more grid cells than there are occupied ones, so walk those instead
+                for (Map.Entry<Long, Cell> entry : cells.entrySet()) {
+                    int latCell = (int) (entry.getKey() >> 32);
+                    int lonCell = (int) (long) entry.getKey();
+                    if (latCell >= firstLatCell && latCell <= lastLatCell
+                            && Math.floorMod(lonCell - firstLonCell, lonCells) <= lonSpan) {
+                        collect(entry.getValue(), hits, box, minLat, minLon, maxLat, maxLon, fromLat, fromLon, radiusKm);
+                    }
+                }
+            } else {
+                for (int latCell = firstLatCell; latCell <= lastLatCell; latCell++) {
+                    for (int rawLonCell = firstLonCell; rawLonCell <= lastLonCell; rawLonCell++) {
+                        Cell cell = cells.get(cellKey(latCell, Math.floorMod(rawLonCell, lonCells)));
+                        if (cell != null) {
+                            collect(cell, hits, box, minLat, minLon, maxLat, maxLon, fromLat, fromLon, radiusKm);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        hits.sort();
+        return hits;
+    }
+
+    private void collect(Cell cell, Hits hits, boolean box, double minLat, double minLon, double maxLat, double maxLon,
+                         double fromLat, double fromLon, double radiusKm) {
+        for (int i = 0; i < cell.size; i++) {
+            int slot = cell.slots[i];
+            double lat = latitudes[slot];
+            double lon = longitudes[slot];
+            if (box && !inBox(lat, lon, minLat, minLon, maxLat, maxLon)) {
+                continue;
+            }
+            double distance = haversineKm(fromLat, fromLon, lat, lon);
+            if (distance <= radiusKm) {
+                hits.offer(hotelIds[slot], distance);
+            }
+        }
+    }
+
+    private static boolean inBox(double lat, double lon, double minLat, double minLon, double maxLat, double maxLon) {
+        if (lat < minLat || lat > maxLat) {
+            return false;
+        }
+        if (maxLon - minLon >= 360) {
+            return true;
+        }
+        // longitudes are compared as eastward offsets from minLon so boxes crossing 180 work
+        double offset = ((lon - minLon) % 360 + 360) % 360;
+        return offset <= maxLon - minLon;
+    }
+
+    static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private int latCell(double latitude) {
+        return (int) Math.floor((Math.min(latitude, 90 - 1e-9) + 90) / cellSize);
+    }
+
+    private int lonCell(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / cellSize), lonCells);
+    }
+
+    private Cell cellOf(double latitude, double longitude) {
+        return cells.get(cellKey(latCell(latitude), lonCell(longitude)));
+    }
+
+    private static long cellKey(int latCell, int lonCell) {
+        return ((long) latCell << 32) | (lonCell & 0xffffffffL);
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        int slot = nextSlot++;
+        if (slot == hotelIds.length) {
+            int capacity = hotelIds.length * 2;
+            hotelIds = Arrays.copyOf(hotelIds, capacity);
+            latitudes = Arrays.copyOf(latitudes, capacity);
+            longitudes = Arrays.copyOf(longitudes, capacity);
+        }
+        return slot;
+    }
+
+    private void releaseSlot(int slot) {
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    private static final class Cell {
+        private int[] slots = new int[4];
+        private int size;
+
+        private void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        private void remove(int slot) {
+            for (int i = 0; i < size; i++) {
+                if (slots[i] == slot) {
+                    slots[i] = slots[--size];
+                    return;
+                }
+            }
+        }
+    }
+
+    // Bounded max-heap on distance while collecting, sorted nearest first by sort().
+    public static final class Hits {
+        private final long[] hotelIds;
+        private final double[] distances;
+        private int size;
+
+        private Hits(int capacity) {
+            this.hotelIds = new long[Math.max(capacity, 0)];
+            this.distances = new double[Math.max(capacity, 0)];
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public long hotelId(int i) {
+            return hotelIds[i];
+        }
+
+        public double distanceKm(int i) {
+            return distances[i];
+        }
+
+        private void offer(long hotelId, double distance) {
+            if (size < distances.length) {
+                hotelIds[size] = hotelId;
+                distances[size] = distance;
+                siftUp(size++);
+            } else if (distance < distances[0]) {
+                hotelIds[0] = hotelId;
+                distances[0] = distance;
+                siftDown(0, size);
+            }
+        }
+
+        // heapsort in place: repeatedly move the farthest to the end
+        private void sort() {
+            for (int end = size - 1; end > 0; end--) {
+                swap(0, end);
+                siftDown(0, end);
+            }
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (distances[parent] >= distances[i]) {
+                    return;
+                }
+                swap(parent, i);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i, int limit) {
+            while (true) {
+                int largest = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+                if (left < limit && distances[left] > distances[largest]) {
+                    largest = left;
+                }
+                if (right < limit && distances[right] > distances[largest]) {
+                    largest = right;
+                }
+                if (largest == i) {
+                    return;
+                }
+                swap(i, largest);
+                i = largest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            long id = hotelIds[a];
+            hotelIds[a] = hotelIds[b];
+            hotelIds[b] = id;
+            double distance = distances[a];
+            distances[a] = distances[b];
+            distances[b] = distance;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.hotel.service.impl;
+
+import com.hotel.entity.Hotel;
+import com.hotel.repo.HotelRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+
+// Fills the in-memory indexes from MySQL during startup. Hotels are read in keyset
+// pages so the whole table is never held as entities at once.
+@Component
+@Lazy(false)
+public class HotelIndexLoader {
+
+    Logger logger = LoggerFactory.getLogger(HotelIndexLoader.class);
+
+    private HotelRepository hotelRepository;
+    private HotelSearchIndex hotelSearchIndex;
+    private GeoIndex geoIndex;
+
+    @Value("${hotel.index.load-page-size:5000}")
+    private int pageSize;
+
+    public HotelIndexLoader(HotelRepository hotelRepository, HotelSearchIndex hotelSearchIndex, GeoIndex geoIndex) {
+        this.hotelRepository = hotelRepository;
+        this.hotelSearchIndex = hotelSearchIndex;
+        this.geoIndex = geoIndex;
+    }
+
+    // Part of context refresh, so no search runs against a partly filled index.
+    @PostConstruct
+    public void load() {
+        long start = System.currentTimeMillis();
+        long lastHotelId = 0;
+        List<Hotel> page;
+        do {
+            page = hotelRepository.findByHotelIdGreaterThanOrderByHotelIdAsc(lastHotelId, PageRequest.of(0, pageSize));
+            for (Hotel hotel : page) {
+                hotelSearchIndex.upsert(hotel);
+                if (hotel.getLatitude() != null && hotel.getLongitude() != null) {
+                    geoIndex.upsert(hotel.getHotelId(), hotel.getLatitude(), hotel.getLongitude());
+                }
+            }
+            if (!page.isEmpty()) {
+                lastHotelId = page.get(page.size() - 1).getHotelId();
+            }
+        } while (page.size() == pageSize);
+        logger.info("Indexed {} hotels ({} with coordinates) in {} ms",
+                hotelSearchIndex.size(), geoIndex.size(), System.currentTimeMillis() - start);
+    }
+}
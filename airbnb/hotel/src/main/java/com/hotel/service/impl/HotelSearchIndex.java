@@ -0,0 +1,314 @@
+package com.hotel.service.impl;
+
+import com.hotel.entity.Hotel;
+import com.hotel.payload.HotelSummary;
+import com.hotel.payload.SearchCriteria;
+import com.hotel.payload.SearchResult;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+// In-memory inverted index over hotel listings. Every hotel gets a dense document number, and each
+// city, amenity, word of name/description and price band has a compressed bitmap of the documents
+// carrying it, so a faceted search is a handful of bitmap intersections instead of LIKE scans.
+// The fields shown in a result row are kept per document, so searching never touches the database.
+@Component
+public class HotelSearchIndex {
+
+    private static final String CITY = "c:";
+    private static final String AMENITY = "a:";
+    private static final String TEXT = "t:";
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    @Value("${hotel.search.price-band:5000}")
+    private int priceBand;
+
+    @Value("${hotel.search.max-limit:100}")
+    private int maxLimit;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, RoaringBitmap> postings = new HashMap<>();
+    private final Map<Integer, RoaringBitmap> priceBands = new HashMap<>();
+    private final Map<Long, Integer> docByHotelId = new HashMap<>();
+    // the terms each hotel is currently indexed under, so an update only touches the postings that changed
+    private final Map<Long, Set<String>> termsByHotelId = new HashMap<>();
+    private final RoaringBitmap liveDocs = new RoaringBitmap();
+
+    // per document, indexed by document number
+    private long[] hotelIds = new long[1024];
+    private String[] names = new String[1024];
+    private String[] cities = new String[1024];
+    private int[] prices = new int[1024];
+
+    private int[] freeDocs = new int[64];
+    private int freeCount;
+    private int nextDoc;
+
+    // Adds a new hotel or replaces the indexed version of an existing one. The old and new terms
+    // are compared under the write lock, so whichever version is indexed last is the only one
+    // searchable, however updates and the loader interleave.
+    public void upsert(Hotel hotel) {
+        Set<String> terms = termsOf(hotel);
+        lock.writeLock().lock();
+        try {
+            Integer doc = docByHotelId.get(hotel.getHotelId());
+            Set<String> previousTerms = termsByHotelId.put(hotel.getHotelId(), terms);
+            if (doc != null) {
+                for (String term : previousTerms) {
+                    if (!terms.contains(term)) {
+                        removePosting(term, doc);
+                    }
+                }
+                removePriceBand(doc);
+            } else {
+                doc = allocateDoc();
+                docByHotelId.put(hotel.getHotelId(), doc);
+                liveDocs.add(doc);
+                previousTerms = Collections.emptySet();
+            }
+            hotelIds[doc] = hotel.getHotelId();
+            names[doc] = hotel.getName();
+            cities[doc] = hotel.getCity();
+            prices[doc] = hotel.getPricePerNight();
+            for (String term : terms) {
+                if (!previousTerms.contains(term)) {
+                    postings.computeIfAbsent(term, t -> new RoaringBitmap()).add(doc);
+                }
+            }
+            priceBands.computeIfAbsent(band(hotel.getPricePerNight()), b -> new RoaringBitmap()).add(doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long hotelId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docByHotelId.remove(hotelId);
+            if (doc == null) {
+                return;
+            }
+            for (String term : termsByHotelId.remove(hotelId)) {
+                removePosting(term, doc);
+            }
+            removePriceBand(doc);
+            liveDocs.remove(doc);
+            names[doc] = null;
+            cities[doc] = null;
+            releaseDoc(doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public SearchResult search(SearchCriteria criteria) {
+        List<String> required = new ArrayList<>();
+        if (criteria.getCity() != null && !criteria.getCity().isBlank()) {
+            required.add(CITY + normalize(criteria.getCity()));
+        }
+        if (criteria.getAmenities() != null) {
+            for (String amenity : criteria.getAmenities()) {
+                if (!amenity.isBlank()) {
+                    required.add(AMENITY + normalize(amenity));
+                }
+            }
+        }
+        if (criteria.getQ() != null) {
+            for (String word : tokenize(criteria.getQ())) {
+                required.add(TEXT + word);
+            }
+        }
+        int limit = Math.min(Math.max(criteria.getLimit(), 0), maxLimit);
+        int offset = Math.max(criteria.getOffset(), 0);
+
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matches = intersect(required);
+            if (matches == null) {
+                return new SearchResult(0, Collections.emptyList());
+            }
+            if (criteria.getMinPrice() != null || criteria.getMaxPrice() != null) {
+                int min = criteria.getMinPrice() == null ? 0 : criteria.getMinPrice();
+                int max = criteria.getMaxPrice() == null ? Integer.MAX_VALUE : criteria.getMaxPrice();
+                matches = filterByPrice(matches, min, max);
+            }
+
+            List<HotelSummary> hotels = new ArrayList<>(Math.min(limit, matches.getCardinality()));
+            IntIterator iterator = matches.getIntIterator();
+            for (int skipped = 0; skipped < offset && iterator.hasNext(); skipped++) {
+                iterator.next();
+            }
+            while (iterator.hasNext() && hotels.size() < limit) {
+                int doc = iterator.next();
+                hotels.add(new HotelSummary(hotelIds[doc], names[doc], cities[doc], prices[doc]));
+            }
+            return new SearchResult(matches.getCardinality(), hotels);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // The result row for one indexed hotel, or null if it is not indexed.
+    public HotelSummary summaryOf(long hotelId) {
+        lock.readLock().lock();
+        try {
+            Integer doc = docByHotelId.get(hotelId);
+            return doc == null ? null : new HotelSummary(hotelIds[doc], names[doc], cities[doc], prices[doc]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docByHotelId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Set<String> termsOf(Hotel hotel) {
+        Set<String> terms = new HashSet<>();
+        terms.add(CITY + normalize(hotel.getCity()));
+        if (hotel.getAmenities() != null) {
+            for (String amenity : hotel.getAmenities().split(",")) {
+                if (!amenity.isBlank()) {
+                    terms.add(AMENITY + normalize(amenity));
+                }
+            }
+        }
+        for (String word : tokenize(hotel.getName())) {
+            terms.add(TEXT + word);
+        }
+        for (String word : tokenize(hotel.getDescription())) {
+            terms.add(TEXT + word);
+        }
+        return terms;
+    }
+
+    // Smallest bitmap first so each intersection only shrinks the working set. Returns the live
+    // documents (not a copy) when there is nothing to intersect, null when a term has no documents.
+    private RoaringBitmap intersect(List<String> required) {
+        if (required.isEmpty()) {
+            return liveDocs;
+        }
+        RoaringBitmap[] bitmaps = new RoaringBitmap[required.size()];
+        for (int i = 0; i < bitmaps.length; i++) {
+            bitmaps[i] = postings.get(required.get(i));
+            if (bitmaps[i] == null) {
+                return null;
+            }
+        }
+        Arrays.sort(bitmaps, Comparator.comparingInt(RoaringBitmap::getCardinality));
+        RoaringBitmap result = bitmaps[0].clone();
+        for (int i = 1; i < bitmaps.length && !result.isEmpty(); i++) {
+            result.and(bitmaps[i]);
+        }
+        return result;
+    }
+
+    // Bands entirely inside [min, max] are taken whole; only documents in the two partially
+    // covered edge bands have their exact price checked.
+    private RoaringBitmap filterByPrice(RoaringBitmap candidates, int min, int max) {
+        RoaringBitmap inside = new RoaringBitmap();
+        RoaringBitmap edge = new RoaringBitmap();
+        for (Map.Entry<Integer, RoaringBitmap> entry : priceBands.entrySet()) {
+            long low = (long) entry.getKey() * priceBand;
+            long high = low + priceBand - 1;
+            if (high < min || low > max) {
+                continue;
+            }
+            if (low >= min && high <= max) {
+                inside.or(entry.getValue());
+            } else {
+                edge.or(entry.getValue());
+            }
+        }
+        RoaringBitmap result = RoaringBitmap.and(candidates, inside);
+        RoaringBitmap.and(candidates, edge).forEach((int doc) -> {
+            if (prices[doc] >= min && prices[doc] <= max) {
+                result.add(doc);
+            }
+        });
+        return result;
+    }
+
+    private void removePosting(String term, int doc) {
+        RoaringBitmap posting = postings.get(term);
+        if (posting != null) {
+            posting.remove(doc);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private void removePriceBand(int doc) {
+        RoaringBitmap band = priceBands.get(band(prices[doc]));
+        if (band != null) {
+            band.remove(doc);
+            if (band.isEmpty()) {
+                priceBands.remove(band(prices[doc]));
+            }
+        }
+    }
+
+    private int allocateDoc() {
+        if (freeCount > 0) {
+            return freeDocs[--freeCount];
+        }
+        int doc = nextDoc++;
+        if (doc == hotelIds.length) {
+            int capacity = hotelIds.length * 2;
+            hotelIds = Arrays.copyOf(hotelIds, capacity);
+            names = Arrays.copyOf(names, capacity);
+            cities = Arrays.copyOf(cities, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+        }
+        return doc;
+    }
+
+    private void releaseDoc(int doc) {
+        if (freeCount == freeDocs.length) {
+            freeDocs = Arrays.copyOf(freeDocs, freeCount * 2);
+        }
+        freeDocs[freeCount++] = doc;
+    }
+
+    private int band(int price) {
+        return price / priceBand;
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> tokenize(String text) {
+        if (text == null) {
+            return Collections.emptyList();
+        }
+        List<String> words = new ArrayList<>();
+        for (String word : NON_WORD.split(text.toLowerCase(Locale.ROOT))) {
+            if (word.length() > 1) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,176 @@
+package com.hotel.service.impl;
+
+import com.hotel.entity.Hotel;
+import com.hotel.exception.HotelNotFoundException;
+import com.hotel.exception.ValidationException;
+import com.hotel.payload.HotelDto;
+import com.hotel.payload.HotelSummary;
+import com.hotel.payload.NearbyHotel;
+import com.hotel.payload.SearchCriteria;
+import com.hotel.payload.SearchResult;
+import com.hotel.repo.HotelRepository;
+import com.hotel.repo.RoomRepository;
+import com.hotel.service.HotelService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class HotelServiceImpl implements HotelService {
+
+    private HotelRepository hotelRepository;
+    private RoomRepository roomRepository;
+    private HotelSearchIndex hotelSearchIndex;
+    private GeoIndex geoIndex;
+    private RateTables rateTables;
+    private AvailabilityCalendar availabilityCalendar;
+
+    @Value("${hotel.geo.max-radius-km:200}")
+    private double maxRadiusKm;
+
+    @Value("${hotel.search.max-limit:100}")
+    private int maxLimit;
+
+    public HotelServiceImpl(HotelRepository hotelRepository, RoomRepository roomRepository,
+                            HotelSearchIndex hotelSearchIndex, GeoIndex geoIndex, RateTables rateTables,
+                            AvailabilityCalendar availabilityCalendar) {
+        this.hotelRepository = hotelRepository;
+        this.roomRepository = roomRepository;
+        this.hotelSearchIndex = hotelSearchIndex;
+        this.geoIndex = geoIndex;
+        this.rateTables = rateTables;
+        this.availabilityCalendar = availabilityCalendar;
+    }
+
+    @Override
+    public Hotel addHotel(HotelDto hotelDto) {
+        if (hotelDto.getName() == null || hotelDto.getCity() == null || hotelDto.getPricePerNight() == null) {
+            throw new ValidationException("name, city and pricePerNight are required");
+        }
+        Hotel hotel = mapToEntity(new Hotel(), hotelDto);
+        Hotel saved = hotelRepository.save(hotel);
+        hotelSearchIndex.upsert(saved);
+        indexLocation(saved);
+        rateTables.setBasePrice(saved.getHotelId(), saved.getPricePerNight());
+        return saved;
+    }
+
+    @Override
+    public Hotel getByHotelId(long hotelId) {
+        return hotelRepository.findById(hotelId)
+                .orElseThrow(() -> new HotelNotFoundException("Hotel not found with ID: " + hotelId));
+    }
+
+    @Override
+    public Hotel updateHotel(long hotelId, HotelDto hotelDto) {
+        Hotel hotel = getByHotelId(hotelId);
+        Hotel saved = hotelRepository.save(mapToEntity(hotel, hotelDto));
+        hotelSearchIndex.upsert(saved);
+        indexLocation(saved);
+        if (hotelDto.getPricePerNight() != null) {
+            rateTables.setBasePrice(hotelId, saved.getPricePerNight());
+        }
+        return saved;
+    }
+
+    @Override
+    public void deleteHotel(long hotelId) {
+        Hotel hotel = getByHotelId(hotelId);
+        hotelRepository.delete(hotel);
+        hotelSearchIndex.remove(hotelId);
+        geoIndex.remove(hotelId);
+        rateTables.removeListing(hotelId);
+        // the rooms go too, or they would stay bookable under a hotel that no longer exists;
+        // bookings are kept as the record of past stays
+        availabilityCalendar.removeHotel(hotelId);
+        roomRepository.deleteByHotelId(hotelId);
+    }
+
+    @Override
+    public SearchResult search(SearchCriteria criteria) {
+        return hotelSearchIndex.search(criteria);
+    }
+
+    @Override
+    public List<NearbyHotel> nearby(double latitude, double longitude, double radiusKm, int limit) {
+        requireCoordinate(latitude, longitude);
+        if (!(radiusKm > 0) || radiusKm > maxRadiusKm) {
+            throw new ValidationException("radiusKm must be greater than 0 and at most " + maxRadiusKm);
+        }
+        return toNearbyHotels(geoIndex.nearest(latitude, longitude, radiusKm, clampLimit(limit)));
+    }
+
+    @Override
+    public List<NearbyHotel> withinBox(double minLatitude, double minLongitude,
+                                       double maxLatitude, double maxLongitude, int limit) {
+        requireCoordinate(minLatitude, minLongitude);
+        requireCoordinate(maxLatitude, maxLongitude);
+        if (minLatitude > maxLatitude) {
+            throw new ValidationException("minLat must not be greater than maxLat");
+        }
+        // a box whose minLon is east of its maxLon crosses the antimeridian
+        double eastLongitude = maxLongitude < minLongitude ? maxLongitude + 360 : maxLongitude;
+        return toNearbyHotels(geoIndex.withinBox(minLatitude, minLongitude, maxLatitude, eastLongitude, clampLimit(limit)));
+    }
+
+    // Hotels without coordinates are simply left out of the geo index.
+    private void indexLocation(Hotel hotel) {
+        if (hotel.getLatitude() != null && hotel.getLongitude() != null) {
+            geoIndex.upsert(hotel.getHotelId(), hotel.getLatitude(), hotel.getLongitude());
+        } else {
+            geoIndex.remove(hotel.getHotelId());
+        }
+    }
+
+    private List<NearbyHotel> toNearbyHotels(GeoIndex.Hits hits) {
+        List<NearbyHotel> hotels = new ArrayList<>(hits.size());
+        for (int i = 0; i < hits.size(); i++) {
+            HotelSummary summary = hotelSearchIndex.summaryOf(hits.hotelId(i));
+            // deleted between the two index reads
+            if (summary != null) {
+                hotels.add(new NearbyHotel(summary, hits.distanceKm(i)));
+            }
+        }
+        return hotels;
+    }
+
+    private int clampLimit(int limit) {
+        return Math.min(Math.max(limit, 0), maxLimit);
+    }
+
+    private static void requireCoordinate(double latitude, double longitude) {
+        if (!(latitude >= -90 && latitude <= 90) || !(longitude >= -180 && longitude <= 180)) {
+            throw new ValidationException("latitude must be within [-90, 90] and longitude within [-180, 180]");
+        }
+    }
+
+    // Applies only the non-null fields of the dto.
+    private Hotel mapToEntity(Hotel hotel, HotelDto hotelDto) {
+        if (hotelDto.getName() != null) {
+            hotel.setName(hotelDto.getName());
+        }
+        if (hotelDto.getCity() != null) {
+            hotel.setCity(hotelDto.getCity());
+        }
+        if (hotelDto.getDescription() != null) {
+            hotel.setDescription(hotelDto.getDescription());
+        }
+        if (hotelDto.getAmenities() != null) {
+            hotel.setAmenities(hotelDto.getAmenities());
+        }
+        if (hotelDto.getPricePerNight() != null) {
+            hotel.setPricePerNight(hotelDto.getPricePerNight());
+        }
+        if (hotelDto.getLatitude() != null || hotelDto.getLongitude() != null) {
+            if (hotelDto.getLatitude() == null || hotelDto.getLongitude() == null) {
+                throw new ValidationException("latitude and longitude must be given together");
+            }
+            requireCoordinate(hotelDto.getLatitude(), hotelDto.getLongitude());
+            hotel.setLatitude(hotelDto.getLatitude());
+            hotel.setLongitude(hotelDto.getLongitude());
+        }
+        return hotel;
+    }
+}
@@ -0,0 +1,139 @@
+package com.hotel.service.impl;
+
+import com.hotel.entity.RateRule;
+import com.hotel.exception.HotelNotFoundException;
+import com.hotel.exception.RateRuleNotFoundException;
+import com.hotel.exception.ValidationException;
+import com.hotel.payload.PriceQuote;
+import com.hotel.payload.RateRuleDto;
+import com.hotel.repo.HotelRepository;
+import com.hotel.repo.RateRuleRepository;
+import com.hotel.service.RateService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+// Rules are written to MySQL and then applied to the in-memory rate tables, which serve every quote.
+@Service
+public class RateServiceImpl implements RateService {
+
+    private HotelRepository hotelRepository;
+    private RateRuleRepository rateRuleRepository;
+    private RateTables rateTables;
+
+    @Value("${hotel.quote.max-hotels:500}")
+    private int maxHotels;
+
+    public RateServiceImpl(HotelRepository hotelRepository, RateRuleRepository rateRuleRepository, RateTables rateTables) {
+        this.hotelRepository = hotelRepository;
+        this.rateRuleRepository = rateRuleRepository;
+        this.rateTables = rateTables;
+    }
+
+    @Override
+    public RateRule addRule(long hotelId, RateRuleDto rateRuleDto) {
+        RateRule rule = mapToEntity(rateRuleDto);
+        if (!hotelRepository.existsById(hotelId)) {
+            throw new HotelNotFoundException("Hotel not found with ID: " + hotelId);
+        }
+        rule.setHotelId(hotelId);
+        RateRule saved = rateRuleRepository.save(rule);
+        rateTables.addRule(saved);
+        return saved;
+    }
+
+    @Override
+    public List<RateRule> getRules(long hotelId) {
+        return rateRuleRepository.findByHotelIdOrderByRuleIdAsc(hotelId);
+    }
+
+    @Override
+    public void deleteRule(long ruleId) {
+        RateRule rule = rateRuleRepository.findById(ruleId)
+                .orElseThrow(() -> new RateRuleNotFoundException("Rate rule not found with ID: " + ruleId));
+        rateRuleRepository.delete(rule);
+        rateTables.removeRule(rule);
+    }
+
+    @Override
+    public PriceQuote quote(long hotelId, LocalDate checkIn, LocalDate checkOut) {
+        requireDates(checkIn, checkOut);
+        PriceQuote quote = rateTables.quote(hotelId, checkIn, checkOut);
+        if (quote == null) {
+            throw new HotelNotFoundException("Hotel not found with ID: " + hotelId);
+        }
+        return quote;
+    }
+
+    @Override
+    public List<PriceQuote> quote(List<Long> hotelIds, LocalDate checkIn, LocalDate checkOut) {
+        requireDates(checkIn, checkOut);
+        if (hotelIds.size() > maxHotels) {
+            throw new ValidationException("at most " + maxHotels + " hotels can be quoted at once");
+        }
+        long[] ids = new long[hotelIds.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = hotelIds.get(i);
+        }
+        return rateTables.quote(ids, checkIn, checkOut);
+    }
+
+    private static void requireDates(LocalDate checkIn, LocalDate checkOut) {
+        if (checkIn == null || checkOut == null) {
+            throw new ValidationException("checkIn and checkOut are required");
+        }
+    }
+
+    private static RateRule mapToEntity(RateRuleDto rateRuleDto) {
+        if (rateRuleDto.getType() == null || rateRuleDto.getAdjustmentBps() == null) {
+            throw new ValidationException("type and adjustmentBps are required");
+        }
+        // -100% to +1000%, which also keeps the cent arithmetic far from overflowing
+        if (rateRuleDto.getAdjustmentBps() < -10000 || rateRuleDto.getAdjustmentBps() > 100000) {
+            throw new ValidationException("adjustmentBps must be within [-10000, 100000]");
+        }
+        if (rateRuleDto.getStartDate() != null && rateRuleDto.getEndDate() != null
+                && !rateRuleDto.getStartDate().isBefore(rateRuleDto.getEndDate())) {
+            throw new ValidationException("startDate must be before endDate");
+        }
+        RateRule rule = new RateRule();
+        rule.setType(rateRuleDto.getType());
+        rule.setAdjustmentBps(rateRuleDto.getAdjustmentBps());
+        switch (rateRuleDto.getType()) {
+            case SEASON -> {
+                if (rateRuleDto.getStartDate() == null || rateRuleDto.getEndDate() == null) {
+                    throw new ValidationException("a SEASON rule needs startDate and endDate");
+                }
+                rule.setStartDate(rateRuleDto.getStartDate());
+                rule.setEndDate(rateRuleDto.getEndDate());
+            }
+            case DAY_OF_WEEK -> {
+                if (rateRuleDto.getDaysOfWeek() == null || rateRuleDto.getDaysOfWeek().isEmpty()) {
+                    throw new ValidationException("a DAY_OF_WEEK rule needs daysOfWeek");
+                }
+                int mask = 0;
+                for (DayOfWeek day : rateRuleDto.getDaysOfWeek()) {
+                    mask |= 1 << (day.getValue() - 1);
+                }
+                rule.setDaysOfWeek(mask);
+                rule.setStartDate(rateRuleDto.getStartDate());
+                rule.setEndDate(rateRuleDto.getEndDate());
+            }
+            case LENGTH_OF_STAY -> {
+                if (rateRuleDto.getMinNights() == null || rateRuleDto.getMinNights() < 1) {
+                    throw new ValidationException("a LENGTH_OF_STAY rule needs minNights of at least 1");
+                }
+                rule.setMinNights(rateRuleDto.getMinNights());
+            }
+            case TAX -> {
+                if (rateRuleDto.getAdjustmentBps() < 0) {
+                    throw new ValidationException("a TAX rule cannot be negative");
+                }
+            }
+        }
+        return rule;
+    }
+}
@@ -0,0 +1,75 @@
+package com.hotel.service.impl;
+
+import com.hotel.entity.Hotel;
+import com.hotel.entity.RateRule;
+import com.hotel.repo.HotelRepository;
+import com.hotel.repo.RateRuleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Compiles the rate tables at startup: every rule grouped by hotel, then one table per hotel
+// from its base price. Both tables are read in keyset pages.
+@Component
+@Lazy(false)
+public class RateTableLoader {
+
+    Logger logger = LoggerFactory.getLogger(RateTableLoader.class);
+
+    private HotelRepository hotelRepository;
+    private RateRuleRepository rateRuleRepository;
+    private RateTables rateTables;
+
+    @Value("${hotel.index.load-page-size:5000}")
+    private int pageSize;
+
+    public RateTableLoader(HotelRepository hotelRepository, RateRuleRepository rateRuleRepository, RateTables rateTables) {
+        this.hotelRepository = hotelRepository;
+        this.rateRuleRepository = rateRuleRepository;
+        this.rateTables = rateTables;
+    }
+
+    // Part of context refresh, so a quote never finds a hotel without its table.
+    @PostConstruct
+    public void load() {
+        long start = System.currentTimeMillis();
+        Map<Long, List<RateRule>> rulesByHotel = new HashMap<>();
+        long lastRuleId = 0;
+        long rules = 0;
+        List<RateRule> rulePage;
+        do {
+            rulePage = rateRuleRepository.findByRuleIdGreaterThanOrderByRuleIdAsc(lastRuleId, PageRequest.of(0, pageSize));
+            for (RateRule rule : rulePage) {
+                rulesByHotel.computeIfAbsent(rule.getHotelId(), hotelId -> new ArrayList<>()).add(rule);
+            }
+            rules += rulePage.size();
+            if (!rulePage.isEmpty()) {
+                lastRuleId = rulePage.get(rulePage.size() - 1).getRuleId();
+            }
+        } while (rulePage.size() == pageSize);
+
+        long lastHotelId = 0;
+        List<Hotel> page;
+        do {
+            page = hotelRepository.findByHotelIdGreaterThanOrderByHotelIdAsc(lastHotelId, PageRequest.of(0, pageSize));
+            for (Hotel hotel : page) {
+                rateTables.putListing(hotel.getHotelId(), hotel.getPricePerNight(),
+                        rulesByHotel.getOrDefault(hotel.getHotelId(), List.of()));
+            }
+            if (!page.isEmpty()) {
+                lastHotelId = page.get(page.size() - 1).getHotelId();
+            }
+        } while (page.size() == pageSize);
+        logger.info("Compiled rate tables of {} hotels from {} rules in {} ms",
+                rateTables.size(), rules, System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,308 @@
+package com.hotel.service.impl;
+
+import com.hotel.entity.RateRule;
+import com.hotel.exception.ValidationException;
+import com.hotel.payload.PriceQuote;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Rate rules of every hotel compiled into a table of nightly prices in cents, one int per day from
+// the day the table was compiled to past the booking horizon, with running totals next to it. A
+// stay's subtotal is then the difference of two prefix sums whatever its length, and quoting a
+// whole result page is a map lookup and a few array reads per hotel. Hotels without season or
+// day-of-week rules charge their base price every night and keep no arrays at all.
+//
+// Tables are immutable once published. A rule change copies the arrays and recomputes only the
+// days the rule covers plus the running totals from its first day on; a base price change
+// reprices every day. Writers of one hotel are serialised on its listing, readers take no lock.
+@Component
+public class RateTables {
+
+    // a table stays in use this many days past the day it was compiled before a quote rebuilds it
+    private static final int SLACK_DAYS = 32;
+
+    @Value("${hotel.availability.horizon-days:400}")
+    private int horizonDays;
+
+    private final Map<Long, Listing> listings = new ConcurrentHashMap<>();
+
+    public void putListing(long hotelId, int basePrice, List<RateRule> rules) {
+        Listing listing = new Listing(basePrice, rules);
+        listing.table = compile(listing, today());
+        listings.put(hotelId, listing);
+    }
+
+    public void setBasePrice(long hotelId, int basePrice) {
+        Listing listing = listings.get(hotelId);
+        if (listing == null) {
+            putListing(hotelId, basePrice, List.of());
+            return;
+        }
+        synchronized (listing) {
+            listing.basePrice = basePrice;
+            RateTable table = listing.table;
+            listing.table = table.nightly == null
+                    ? new RateTable(table.startDay, basePrice, null, null, table.losMinNights, table.losBps, table.taxBps)
+                    : reprice(listing, table, 0, table.nightly.length);
+        }
+    }
+
+    public void removeListing(long hotelId) {
+        listings.remove(hotelId);
+    }
+
+    public void addRule(RateRule rule) {
+        Listing listing = listings.get(rule.getHotelId());
+        if (listing == null) {
+            return;
+        }
+        synchronized (listing) {
+            listing.rules.add(rule);
+            listing.table = applyRuleChange(listing, rule);
+        }
+    }
+
+    public void removeRule(RateRule rule) {
+        Listing listing = listings.get(rule.getHotelId());
+        if (listing == null) {
+            return;
+        }
+        synchronized (listing) {
+            if (listing.rules.removeIf(existing -> existing.getRuleId().equals(rule.getRuleId()))) {
+                listing.table = applyRuleChange(listing, rule);
+            }
+        }
+    }
+
+    // The quote of a stay, or null for a hotel without a rate table.
+    public PriceQuote quote(long hotelId, LocalDate checkIn, LocalDate checkOut) {
+        long from = checkIn.toEpochDay();
+        long to = checkOut.toEpochDay();
+        requireStay(from, to);
+        return quote(hotelId, from, to);
+    }
+
+    // Quotes the same stay at many hotels; hotels without a rate table are left out.
+    public List<PriceQuote> quote(long[] hotelIds, LocalDate checkIn, LocalDate checkOut) {
+        long from = checkIn.toEpochDay();
+        long to = checkOut.toEpochDay();
+        requireStay(from, to);
+        List<PriceQuote> quotes = new ArrayList<>(hotelIds.length);
+        for (long hotelId : hotelIds) {
+            PriceQuote quote = quote(hotelId, from, to);
+            if (quote != null) {
+                quotes.add(quote);
+            }
+        }
+        return quotes;
+    }
+
+    public int size() {
+        return listings.size();
+    }
+
+    private PriceQuote quote(long hotelId, long from, long to) {
+        Listing listing = listings.get(hotelId);
+        if (listing == null) {
+            return null;
+        }
+        RateTable table = listing.table;
+        if (table.prefix != null && to - table.startDay > table.nightly.length) {
+            table = recompile(listing, today());
+        }
+        int nights = (int) (to - from);
+        long subtotal;
+        if (table.prefix == null) {
+            subtotal = (long) table.basePrice * nights;
+        } else {
+            subtotal = table.prefix[(int) (to - table.startDay)] - table.prefix[(int) (from - table.startDay)];
+        }
+        long adjustment = applyBps(subtotal, table.lengthOfStayBps(nights));
+        long tax = applyBps(subtotal + adjustment, table.taxBps);
+        return new PriceQuote(hotelId, nights, subtotal, adjustment, tax);
+    }
+
+    private RateTable recompile(Listing listing, long today) {
+        synchronized (listing) {
+            RateTable table = listing.table;
+            // another quote may have rebuilt it while this one waited
+            if (table.prefix != null && table.startDay < today) {
+                table = compile(listing, today);
+                listing.table = table;
+            }
+            return table;
+        }
+    }
+
+    private void requireStay(long from, long to) {
+        long today = today();
+        if (from < today || to <= from || to > today + horizonDays) {
+            throw new ValidationException("stay must start today or later, last at least one night and end within "
+                    + horizonDays + " days");
+        }
+    }
+
+    private RateTable compile(Listing listing, long startDay) {
+        RateTable table = new RateTable(startDay, listing.basePrice, null, null, null, null, 0);
+        table = withStayRules(listing, table);
+        if (!hasDayRules(listing.rules)) {
+            return table;
+        }
+        int days = horizonDays + SLACK_DAYS;
+        return reprice(listing, new RateTable(startDay, listing.basePrice, new int[days], new long[days + 1],
+                table.losMinNights, table.losBps, table.taxBps), 0, days);
+    }
+
+    // Callers hold the listing's monitor and have already updated its rules.
+    private RateTable applyRuleChange(Listing listing, RateRule rule) {
+        RateTable table = listing.table;
+        if (rule.getType() == RateRule.Type.LENGTH_OF_STAY || rule.getType() == RateRule.Type.TAX) {
+            return withStayRules(listing, table);
+        }
+        if (table.nightly == null || !hasDayRules(listing.rules)) {
+            // the first day rule needs arrays, the last one removed makes them unnecessary
+            return compile(listing, today());
+        }
+        int days = table.nightly.length;
+        int from = rule.getStartDate() == null ? 0
+                : (int) Math.max(0, Math.min(days, rule.getStartDate().toEpochDay() - table.startDay));
+        int to = rule.getEndDate() == null ? days
+                : (int) Math.max(0, Math.min(days, rule.getEndDate().toEpochDay() - table.startDay));
+        if (from >= to) {
+            return table;
+        }
+        return reprice(listing, table, from, to);
+    }
+
+    // Recomputes the nightly prices of days [from, to) on copies of the table's arrays, then the
+    // running totals from the first changed day on.
+    private static RateTable reprice(Listing listing, RateTable table, int from, int to) {
+        int[] nightly = table.nightly.clone();
+        long[] prefix = table.prefix.clone();
+        List<RateRule> dayRules = new ArrayList<>();
+        for (RateRule rule : listing.rules) {
+            if (rule.getType() == RateRule.Type.SEASON || rule.getType() == RateRule.Type.DAY_OF_WEEK) {
+                dayRules.add(rule);
+            }
+        }
+        for (int i = from; i < to; i++) {
+            long day = table.startDay + i;
+            int bps = 0;
+            for (RateRule rule : dayRules) {
+                if (covers(rule, day)) {
+                    bps += rule.getAdjustmentBps();
+                }
+            }
+            nightly[i] = (int) Math.max(0, Math.min(Integer.MAX_VALUE, listing.basePrice + applyBps(listing.basePrice, bps)));
+        }
+        for (int i = from; i < nightly.length; i++) {
+            prefix[i + 1] = prefix[i] + nightly[i];
+        }
+        return new RateTable(table.startDay, listing.basePrice, nightly, prefix, table.losMinNights, table.losBps, table.taxBps);
+    }
+
+    private static RateTable withStayRules(Listing listing, RateTable table) {
+        List<RateRule> lengthOfStay = new ArrayList<>();
+        int taxBps = 0;
+        for (RateRule rule : listing.rules) {
+            if (rule.getType() == RateRule.Type.LENGTH_OF_STAY) {
+                lengthOfStay.add(rule);
+            } else if (rule.getType() == RateRule.Type.TAX) {
+                taxBps += rule.getAdjustmentBps();
+            }
+        }
+        lengthOfStay.sort(Comparator.comparingInt(RateRule::getMinNights));
+        int[] minNights = new int[lengthOfStay.size()];
+        int[] bps = new int[lengthOfStay.size()];
+        for (int i = 0; i < minNights.length; i++) {
+            minNights[i] = lengthOfStay.get(i).getMinNights();
+            bps[i] = lengthOfStay.get(i).getAdjustmentBps();
+        }
+        return new RateTable(table.startDay, table.basePrice, table.nightly, table.prefix, minNights, bps, taxBps);
+    }
+
+    private static boolean hasDayRules(List<RateRule> rules) {
+        for (RateRule rule : rules) {
+            if (rule.getType() == RateRule.Type.SEASON || rule.getType() == RateRule.Type.DAY_OF_WEEK) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean covers(RateRule rule, long day) {
+        if (rule.getStartDate() != null && day < rule.getStartDate().toEpochDay()) {
+            return false;
+        }
+        if (rule.getEndDate() != null && day >= rule.getEndDate().toEpochDay()) {
+            return false;
+        }
+        if (rule.getType() == RateRule.Type.DAY_OF_WEEK) {
+            // epoch day 0 was a Thursday; bit 0 is Monday
+            int dayOfWeek = (int) Math.floorMod(day + 3, 7L);
+            return rule.getDaysOfWeek() != null && (rule.getDaysOfWeek() & (1 << dayOfWeek)) != 0;
+        }
+        return true;
+    }
+
+    // Rounded half up, so a discount and the matching surcharge cancel out.
+    static long applyBps(long amount, int bps) {
+        return Math.floorDiv(amount * bps + 5000, 10000);
+    }
+
+    private static long today() {
+        return LocalDate.now().toEpochDay();
+    }
+
+    private static final class Listing {
+        private int basePrice;
+        // guarded by the listing's monitor
+        private final List<RateRule> rules;
+        private volatile RateTable table;
+
+        private Listing(int basePrice, List<RateRule> rules) {
+            this.basePrice = basePrice;
+            this.rules = new ArrayList<>(rules);
+        }
+    }
+
+    private static final class RateTable {
+        private final long startDay;
+        private final int basePrice;
+        // null when no season or day-of-week rule applies, otherwise nightly[i] is the price of startDay + i
+        private final int[] nightly;
+        // prefix[i] is the sum of nightly[0..i)
+        private final long[] prefix;
+        private final int[] losMinNights;
+        private final int[] losBps;
+        private final int taxBps;
+
+        private RateTable(long startDay, int basePrice, int[] nightly, long[] prefix,
+                          int[] losMinNights, int[] losBps, int taxBps) {
+            this.startDay = startDay;
+            this.basePrice = basePrice;
+            this.nightly = nightly;
+            this.prefix = prefix;
+            this.losMinNights = losMinNights;
+            this.losBps = losBps;
+            this.taxBps = taxBps;
+        }
+
+        // The rule with the highest minimum the stay reaches.
+        private int lengthOfStayBps(int nights) {
+            for (int i = losMinNights.length - 1; i >= 0; i--) {
+                if (nights >= losMinNights[i]) {
+                    return losBps[i];
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+-- Hotels, their rooms and the bookings of those rooms, as Hibernate used to create them.
+
+CREATE TABLE hotels (
+    hotel_id        BIGINT        NOT NULL AUTO_INCREMENT,
+    name            VARCHAR(100)  NOT NULL,
+    city            VARCHAR(50)   NOT NULL,
+    description     VARCHAR(2000),
+    amenities       VARCHAR(500),
+    price_per_night INT           NOT NULL,
+    latitude        DOUBLE,
+    longitude       DOUBLE,
+    PRIMARY KEY (hotel_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE rooms (
+    room_id  BIGINT      NOT NULL AUTO_INCREMENT,
+    hotel_id BIGINT      NOT NULL,
+    name     VARCHAR(50) NOT NULL,
+    capacity INT         NOT NULL,
+    PRIMARY KEY (room_id),
+    INDEX idx_rooms_hotel_id (hotel_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE bookings (
+    booking_id BIGINT       NOT NULL AUTO_INCREMENT,
+    room_id    BIGINT       NOT NULL,
+    hotel_id   BIGINT       NOT NULL,
+    guest_name VARCHAR(100) NOT NULL,
+    check_in   DATE         NOT NULL,
+    check_out  DATE         NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (booking_id),
+    INDEX idx_bookings_room_id (room_id),
+    INDEX idx_bookings_check_out (check_out)
+) ENGINE = InnoDB;
@@ -0,0 +1,15 @@
+-- Pricing rules compiled into the in-memory rate tables; see RateRule for what each type means.
+-- A database baselined at 1 may already have the table from ddl-auto=update.
+
+CREATE TABLE IF NOT EXISTS rate_rules (
+    rule_id        BIGINT      NOT NULL AUTO_INCREMENT,
+    hotel_id       BIGINT      NOT NULL,
+    rule_type      VARCHAR(20) NOT NULL,
+    start_date     DATE,
+    end_date       DATE,
+    days_of_week   INT,
+    min_nights     INT,
+    adjustment_bps INT         NOT NULL,
+    PRIMARY KEY (rule_id),
+    INDEX idx_rate_rules_hotel_id (hotel_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,87 @@
+package com.hotel.service.impl;
+
+import com.hotel.entity.Room;
+import com.hotel.exception.RoomNotFoundException;
+import com.hotel.payload.AvailableRoom;
+import com.hotel.payload.BookingDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AvailabilityCalendarTests {
+
+	private AvailabilityCalendar calendar;
+	private LocalDate today;
+
+	@BeforeEach
+	void setUp() {
+		calendar = new AvailabilityCalendar();
+		ReflectionTestUtils.setField(calendar, "horizonDays", 400);
+		calendar.postConstruct();
+		calendar.addRoom(room(1L, 7L, 2));
+		calendar.addRoom(room(2L, 7L, 4));
+		today = LocalDate.now();
+	}
+
+	@Test
+	void overlappingStaysConflictAcrossWordBoundaries() {
+		// 100 nights span several 64-bit words
+		assertThat(calendar.reserve(1L, today.plusDays(10), today.plusDays(110))).isTrue();
+		assertThat(calendar.reserve(1L, today.plusDays(109), today.plusDays(112))).isFalse();
+		assertThat(calendar.reserve(1L, today.plusDays(5), today.plusDays(11))).isFalse();
+		// check-out day is free for the next guest
+		assertThat(calendar.reserve(1L, today.plusDays(110), today.plusDays(112))).isTrue();
+		assertThat(calendar.reserve(1L, today, today.plusDays(10))).isTrue();
+	}
+
+	@Test
+	void availabilityFiltersBookedRoomsAndCapacity() {
+		calendar.reserve(2L, today.plusDays(3), today.plusDays(6));
+
+		assertThat(roomIds(calendar.availableRooms(7L, today.plusDays(1), today.plusDays(4), 1))).containsExactly(1L);
+		assertThat(roomIds(calendar.availableRooms(7L, today.plusDays(6), today.plusDays(8), 3))).containsExactly(2L);
+
+		calendar.release(2L, today.plusDays(3), today.plusDays(6));
+		assertThat(roomIds(calendar.availableRooms(7L, today.plusDays(1), today.plusDays(4), 1))).containsExactly(1L, 2L);
+	}
+
+	@Test
+	void roomsOfARemovedHotelCannotBeBooked() {
+		calendar.addRoom(room(3L, 8L, 2));
+		calendar.removeHotel(7L);
+
+		assertThat(calendar.hotelOf(1L)).isNull();
+		assertThat(calendar.availableRooms(7L, today.plusDays(1), today.plusDays(2), 1)).isEmpty();
+		assertThatThrownBy(() -> calendar.reserve(2L, today.plusDays(1), today.plusDays(2)))
+				.isInstanceOf(RoomNotFoundException.class);
+		assertThat(calendar.reserve(3L, today.plusDays(1), today.plusDays(2))).isTrue();
+
+		// the room check comes before any repository is touched
+		BookingServiceImpl bookings = new BookingServiceImpl(null, null, null, calendar);
+		BookingDto booking = new BookingDto();
+		booking.setRoomId(1L);
+		booking.setGuestName("Alice");
+		booking.setCheckIn(today.plusDays(1));
+		booking.setCheckOut(today.plusDays(2));
+		assertThatThrownBy(() -> bookings.book(booking)).isInstanceOf(RoomNotFoundException.class);
+	}
+
+	private static List<Long> roomIds(List<AvailableRoom> rooms) {
+		return rooms.stream().map(AvailableRoom::getRoomId).toList();
+	}
+
+	private static Room room(long roomId, long hotelId, int capacity) {
+		Room room = new Room();
+		room.setRoomId(roomId);
+		room.setHotelId(hotelId);
+		room.setName("Room " + roomId);
+		room.setCapacity(capacity);
+		return room;
+	}
+}
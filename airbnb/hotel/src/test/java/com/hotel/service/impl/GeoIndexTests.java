@@ -0,0 +1,79 @@
+package com.hotel.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeoIndexTests {
+
+	private GeoIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new GeoIndex();
+		ReflectionTestUtils.setField(index, "cellSize", 0.1);
+		index.postConstruct();
+	}
+
+	@Test
+	void nearestMatchesBruteForce() {
+		Random random = new Random(42);
+		double[][] points = new double[5000][];
+		for (int i = 0; i < points.length; i++) {
+			points[i] = new double[] { 15 + random.nextDouble(), 73 + random.nextDouble() };
+			index.upsert(i, points[i][0], points[i][1]);
+		}
+
+		GeoIndex.Hits hits = index.nearest(15.5, 73.5, 8, 25);
+
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < points.length; i++) {
+			if (GeoIndex.haversineKm(15.5, 73.5, points[i][0], points[i][1]) <= 8) {
+				expected.add(i);
+			}
+		}
+		expected.sort(Comparator.comparingDouble(i -> GeoIndex.haversineKm(15.5, 73.5, points[i][0], points[i][1])));
+		assertThat(hits.size()).isEqualTo(Math.min(25, expected.size()));
+		for (int i = 0; i < hits.size(); i++) {
+			assertThat(hits.hotelId(i)).isEqualTo((long) expected.get(i));
+		}
+	}
+
+	@Test
+	void boxCrossesAntimeridianAndRemovedHotelsDisappear() {
+		index.upsert(1L, -17.0, 179.9);
+		index.upsert(2L, -17.0, -179.9);
+		index.upsert(3L, -17.0, 170.0);
+
+		assertThat(index.withinBox(-18, 179.5, -16, 180.5, 10).size()).isEqualTo(2);
+
+		index.remove(2L);
+		GeoIndex.Hits hits = index.withinBox(-18, 179.5, -16, 180.5, 10);
+		assertThat(hits.size()).isEqualTo(1);
+		assertThat(hits.hotelId(0)).isEqualTo(1L);
+	}
+
+	@Test
+	void wideBoxFindsTheSameHotelsAsANarrowOne() {
+		Random random = new Random(7);
+		int inside = 0;
+		for (int i = 0; i < 2000; i++) {
+			double lat = -60 + 120 * random.nextDouble();
+			double lon = -180 + 360 * random.nextDouble();
+			index.upsert(i, lat, lon);
+			if (lat >= -10 && lat <= 40 && (lon >= 150 || lon <= -120)) {
+				inside++;
+			}
+		}
+
+		assertThat(index.withinBox(-90, -180, 90, 180, 5000).size()).isEqualTo(2000);
+		assertThat(index.withinBox(-10, 150, 40, 240, 5000).size()).isEqualTo(inside);
+	}
+}
@@ -0,0 +1,81 @@
+package com.hotel.service.impl;
+
+import com.hotel.entity.Hotel;
+import com.hotel.payload.HotelSummary;
+import com.hotel.payload.SearchCriteria;
+import com.hotel.payload.SearchResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotelSearchIndexTests {
+
+	private HotelSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new HotelSearchIndex();
+		ReflectionTestUtils.setField(index, "priceBand", 5000);
+		ReflectionTestUtils.setField(index, "maxLimit", 100);
+		index.upsert(hotel(1L, "Sea Breeze", "Goa", "wifi,pool", 4500, "Quiet beach resort"));
+		index.upsert(hotel(2L, "City Lights", "Mumbai", "wifi", 9000, "Downtown business hotel"));
+		index.upsert(hotel(3L, "Palm Shore", "Goa", "pool", 12000, "Beach villas with a view"));
+	}
+
+	@Test
+	void intersectsFacetsAndText() {
+		SearchCriteria criteria = new SearchCriteria();
+		criteria.setCity("goa");
+		criteria.setAmenities(List.of("pool"));
+		criteria.setQ("beach");
+
+		assertThat(ids(index.search(criteria))).containsExactlyInAnyOrder(1L, 3L);
+	}
+
+	@Test
+	void filtersExactPriceInsidePartialBands() {
+		SearchCriteria criteria = new SearchCriteria();
+		criteria.setMinPrice(4000);
+		criteria.setMaxPrice(9000);
+
+		assertThat(ids(index.search(criteria))).containsExactlyInAnyOrder(1L, 2L);
+	}
+
+	@Test
+	void updateAndRemoveDropOldTerms() {
+		index.upsert(hotel(1L, "Sea Breeze", "Kochi", "wifi", 4500, "Backwaters"));
+
+		SearchCriteria goa = new SearchCriteria();
+		goa.setCity("goa");
+		assertThat(ids(index.search(goa))).containsExactly(3L);
+		SearchCriteria beach = new SearchCriteria();
+		beach.setQ("beach");
+		assertThat(ids(index.search(beach))).containsExactly(3L);
+		SearchCriteria wifi = new SearchCriteria();
+		wifi.setAmenities(List.of("wifi"));
+		assertThat(ids(index.search(wifi))).containsExactlyInAnyOrder(1L, 2L);
+
+		index.remove(3L);
+		assertThat(index.search(goa).getTotal()).isZero();
+		assertThat(index.size()).isEqualTo(2);
+	}
+
+	private static List<Long> ids(SearchResult result) {
+		return result.getHotels().stream().map(HotelSummary::getHotelId).toList();
+	}
+
+	private static Hotel hotel(long id, String name, String city, String amenities, int price, String description) {
+		Hotel hotel = new Hotel();
+		hotel.setHotelId(id);
+		hotel.setName(name);
+		hotel.setCity(city);
+		hotel.setAmenities(amenities);
+		hotel.setPricePerNight(price);
+		hotel.setDescription(description);
+		return hotel;
+	}
+}
@@ -0,0 +1,123 @@
+package com.hotel.service.impl;
+
+import com.hotel.entity.RateRule;
+import com.hotel.payload.PriceQuote;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateTablesTests {
+
+	private RateTables rateTables;
+	private LocalDate today;
+
+	@BeforeEach
+	void setUp() {
+		rateTables = new RateTables();
+		ReflectionTestUtils.setField(rateTables, "horizonDays", 400);
+		today = LocalDate.now();
+	}
+
+	@Test
+	void seasonAndWeekendRulesMoveNightlyPrices() {
+		RateRule season = rule(1L, RateRule.Type.SEASON, 5000);
+		season.setStartDate(today.plusDays(10));
+		season.setEndDate(today.plusDays(20));
+		RateRule weekend = rule(2L, RateRule.Type.DAY_OF_WEEK, 2000);
+		weekend.setDaysOfWeek(1 << (DayOfWeek.SATURDAY.getValue() - 1));
+		rateTables.putListing(7L, 10000, List.of(season, weekend));
+
+		LocalDate checkIn = today.plusDays(5);
+		LocalDate checkOut = today.plusDays(25);
+		assertThat(rateTables.quote(7L, checkIn, checkOut).getSubtotal()).isEqualTo(expected(checkIn, checkOut));
+	}
+
+	@Test
+	void incrementalRuleChangesMatchAFullCompile() {
+		rateTables.putListing(7L, 10000, List.of());
+		RateRule season = rule(1L, RateRule.Type.SEASON, -2500);
+		season.setStartDate(today.plusDays(30));
+		season.setEndDate(today.plusDays(60));
+		RateRule weekend = rule(2L, RateRule.Type.DAY_OF_WEEK, 2000);
+		weekend.setDaysOfWeek(1 << (DayOfWeek.FRIDAY.getValue() - 1) | 1 << (DayOfWeek.SATURDAY.getValue() - 1));
+		rateTables.addRule(season);
+		rateTables.addRule(weekend);
+
+		RateTables compiled = new RateTables();
+		ReflectionTestUtils.setField(compiled, "horizonDays", 400);
+		compiled.putListing(7L, 10000, List.of(season, weekend));
+		for (int from = 0; from < 100; from += 7) {
+			LocalDate checkIn = today.plusDays(from);
+			LocalDate checkOut = checkIn.plusDays(9);
+			assertThat(rateTables.quote(7L, checkIn, checkOut).getTotal())
+					.isEqualTo(compiled.quote(7L, checkIn, checkOut).getTotal());
+		}
+
+		rateTables.removeRule(season);
+		rateTables.removeRule(weekend);
+		assertThat(rateTables.quote(7L, today.plusDays(30), today.plusDays(40)).getSubtotal()).isEqualTo(100000);
+	}
+
+	@Test
+	void lengthOfStayDiscountAndTaxApplyToTheTotal() {
+		RateRule week = rule(1L, RateRule.Type.LENGTH_OF_STAY, -1000);
+		week.setMinNights(7);
+		RateRule month = rule(2L, RateRule.Type.LENGTH_OF_STAY, -2000);
+		month.setMinNights(28);
+		rateTables.putListing(7L, 10000, List.of(week, month, rule(3L, RateRule.Type.TAX, 1200)));
+
+		PriceQuote shortStay = rateTables.quote(7L, today.plusDays(1), today.plusDays(3));
+		assertThat(shortStay.getLengthOfStayAdjustment()).isZero();
+		assertThat(shortStay.getTotal()).isEqualTo(22400);
+
+		PriceQuote weekStay = rateTables.quote(7L, today.plusDays(1), today.plusDays(8));
+		assertThat(weekStay.getSubtotal()).isEqualTo(70000);
+		assertThat(weekStay.getLengthOfStayAdjustment()).isEqualTo(-7000);
+		assertThat(weekStay.getTax()).isEqualTo(7560);
+		assertThat(weekStay.getTotal()).isEqualTo(70560);
+
+		assertThat(rateTables.quote(7L, today.plusDays(1), today.plusDays(31)).getLengthOfStayAdjustment()).isEqualTo(-60000);
+	}
+
+	@Test
+	void batchQuotesSkipUnknownHotels() {
+		rateTables.putListing(1L, 10000, List.of());
+		rateTables.putListing(2L, 20000, List.of());
+		rateTables.setBasePrice(2L, 15000);
+
+		List<PriceQuote> quotes = rateTables.quote(new long[] { 1L, 2L, 3L }, today.plusDays(1), today.plusDays(3));
+		assertThat(quotes).extracting(PriceQuote::getHotelId).containsExactly(1L, 2L);
+		assertThat(quotes).extracting(PriceQuote::getTotal).containsExactly(20000L, 30000L);
+	}
+
+	// Nightly prices of seasonAndWeekendRulesMoveNightlyPrices computed day by day.
+	private long expected(LocalDate checkIn, LocalDate checkOut) {
+		long total = 0;
+		for (LocalDate day = checkIn; day.isBefore(checkOut); day = day.plusDays(1)) {
+			int bps = 0;
+			if (!day.isBefore(today.plusDays(10)) && day.isBefore(today.plusDays(20))) {
+				bps += 5000;
+			}
+			if (day.getDayOfWeek() == DayOfWeek.SATURDAY) {
+				bps += 2000;
+			}
+			total += 10000 + 10000L * bps / 10000;
+		}
+		return total;
+	}
+
+	private static RateRule rule(long ruleId, RateRule.Type type, int adjustmentBps) {
+		RateRule rule = new RateRule();
+		rule.setRuleId(ruleId);
+		rule.setHotelId(7L);
+		rule.setType(type);
+		rule.setAdjustmentBps(adjustmentBps);
+		return rule;
+	}
+}
@@ -0,0 +1,29 @@
+package com.review.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+
+@Configuration
+public class SecurityConfig {
+
+    @Bean
+    public SecurityFilterChain securityFilterChain (HttpSecurity http) throws Exception {
+
+        http.csrf(csrf -> csrf.disable());
+        // a rating rebuild blocks every review write for a full scan, so only an operator on the host may start one
+        IpAddressMatcher loopbackV4 = new IpAddressMatcher("127.0.0.1");
+        IpAddressMatcher loopbackV6 = new IpAddressMatcher("::1");
+        http.authorizeHttpRequests(auth -> auth
+                .requestMatchers(HttpMethod.POST, "/reviews/ratings/rebuild")
+                .access((authentication, context) -> new AuthorizationDecision(
+                        loopbackV4.matches(context.getRequest()) || loopbackV6.matches(context.getRequest())))
+                .anyRequest().permitAll());
+
+        return http.build();
+    }
+}
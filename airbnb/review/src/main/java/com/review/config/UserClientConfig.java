@@ -0,0 +1,24 @@
+package com.review.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+@Configuration
+public class UserClientConfig {
+
+    // Short timeouts: author names are decoration, a slow user service must not hold up the feed.
+    @Bean
+    public RestClient userRestClient(@Value("${users.service.url:http://localhost:8081}") String baseUrl,
+                                     @Value("${users.service.timeout:2000}") int timeout) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeout);
+        requestFactory.setReadTimeout(timeout);
+        return RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestFactory(requestFactory)
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.review.controller;
+
+import com.review.entity.Review;
+import com.review.payload.RatingSummary;
+import com.review.payload.ReviewDto;
+import com.review.payload.ReviewPage;
+import com.review.service.ReviewService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/reviews")
+public class ReviewController {
+
+    private ReviewService reviewService;
+
+    public ReviewController(ReviewService reviewService) {
+        this.reviewService = reviewService;
+    }
+
+    //add-review
+    @PostMapping
+    public ResponseEntity<Review> addReview(@RequestBody ReviewDto reviewDto) {
+        return new ResponseEntity<>(reviewService.addReview(reviewDto), HttpStatus.CREATED);
+    }
+
+    //reviews-of-a-hotel, newest first; pass nextCursor back as ?cursor= for the next page
+    @GetMapping("/hotel/{hotelId}")
+    public ResponseEntity<ReviewPage> getFeed(@PathVariable long hotelId,
+                                              @RequestParam(required = false) String cursor,
+                                              @RequestParam(required = false) Integer size) {
+        return new ResponseEntity<>(reviewService.getFeed(hotelId, cursor, size), HttpStatus.OK);
+    }
+
+    //ratings-of-several-hotels, e.g. /reviews/ratings?hotelIds=1,2,3
+    @GetMapping("/ratings")
+    public ResponseEntity<List<RatingSummary>> getRatings(@RequestParam List<Long> hotelIds) {
+        return new ResponseEntity<>(reviewService.getRatings(hotelIds), HttpStatus.OK);
+    }
+
+    //rating-of-a-hotel
+    @GetMapping("/ratings/{hotelId}")
+    public ResponseEntity<RatingSummary> getRating(@PathVariable long hotelId) {
+        return new ResponseEntity<>(reviewService.getRating(hotelId), HttpStatus.OK);
+    }
+
+    //rebuild-ratings-from-reviews, only from the host itself (see SecurityConfig)
+    @PostMapping("/ratings/rebuild")
+    public ResponseEntity<String> rebuildRatings() {
+        int hotels = reviewService.rebuildRatings();
+        return new ResponseEntity<>("Rebuilt ratings of " + hotels + " hotels", HttpStatus.OK);
+    }
+
+    //get-review-by-id
+    @GetMapping("/{reviewId}")
+    public ResponseEntity<Review> getReview(@PathVariable long reviewId) {
+        return new ResponseEntity<>(reviewService.getByReviewId(reviewId), HttpStatus.OK);
+    }
+
+    //delete-review
+    @DeleteMapping("/{reviewId}")
+    public ResponseEntity<String> deleteReview(@PathVariable long reviewId) {
+        reviewService.deleteReview(reviewId);
+        return new ResponseEntity<>("Review deleted successfully", HttpStatus.OK);
+    }
+}
@@ -0,0 +1,112 @@
+package com.review.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+// Snapshot of the in-memory per-hotel aggregates, written by RatingFlusher so other readers
+// (reports, the hotel service) get averages without scanning reviews. It is derived data: the
+// reviews table stays the source of truth and the aggregates are rebuilt from it.
+@Entity
+@Table(name = "hotel_ratings")
+public class HotelRating {
+    @Id
+    @Column(name = "hotel_id", nullable = false)
+    private Long hotelId;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @Column(name = "stars_1", nullable = false)
+    private long stars1;
+
+    @Column(name = "stars_2", nullable = false)
+    private long stars2;
+
+    @Column(name = "stars_3", nullable = false)
+    private long stars3;
+
+    @Column(name = "stars_4", nullable = false)
+    private long stars4;
+
+    @Column(name = "stars_5", nullable = false)
+    private long stars5;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public Long getHotelId() {
+        return hotelId;
+    }
+
+    public void setHotelId(Long hotelId) {
+        this.hotelId = hotelId;
+    }
+
+    public long getReviewCount() {
+        return reviewCount;
+    }
+
+    public void setReviewCount(long reviewCount) {
+        this.reviewCount = reviewCount;
+    }
+
+    public long getRatingSum() {
+        return ratingSum;
+    }
+
+    public void setRatingSum(long ratingSum) {
+        this.ratingSum = ratingSum;
+    }
+
+    public long getStars1() {
+        return stars1;
+    }
+
+    public void setStars1(long stars1) {
+        this.stars1 = stars1;
+    }
+
+    public long getStars2() {
+        return stars2;
+    }
+
+    public void setStars2(long stars2) {
+        this.stars2 = stars2;
+    }
+
+    public long getStars3() {
+        return stars3;
+    }
+
+    public void setStars3(long stars3) {
+        this.stars3 = stars3;
+    }
+
+    public long getStars4() {
+        return stars4;
+    }
+
+    public void setStars4(long stars4) {
+        this.stars4 = stars4;
+    }
+
+    public long getStars5() {
+        return stars5;
+    }
+
+    public void setStars5(long stars5) {
+        this.stars5 = stars5;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
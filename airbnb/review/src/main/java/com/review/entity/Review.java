@@ -0,0 +1,80 @@
+package com.review.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+@Entity
+// the feed reads a hotel's reviews newest first by (created_at, review_id); the index serves
+// that order directly and the keyset cursor seeks into it
+@Table(name = "reviews", indexes = @Index(name = "idx_reviews_hotel_feed", columnList = "hotel_id, created_at, review_id"))
+public class Review {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "review_id", nullable = false)
+    private Long reviewId;
+
+    @Column(name = "hotel_id", nullable = false)
+    private long hotelId;
+
+    @Column(name = "username", nullable = false, length = 50)
+    private String username;
+
+    // 1 to 5 stars
+    @Column(name = "rating", nullable = false)
+    private int rating;
+
+    @Column(name = "comment", length = 2000)
+    private String comment;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    public Long getReviewId() {
+        return reviewId;
+    }
+
+    public void setReviewId(Long reviewId) {
+        this.reviewId = reviewId;
+    }
+
+    public long getHotelId() {
+        return hotelId;
+    }
+
+    public void setHotelId(long hotelId) {
+        this.hotelId = hotelId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public int getRating() {
+        return rating;
+    }
+
+    public void setRating(int rating) {
+        this.rating = rating;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    public void setComment(String comment) {
+        this.comment = comment;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,21 @@
+package com.review.payload;
+
+import java.util.List;
+
+// Request body of the user service's POST /users/batch.
+public class BatchLookupDto {
+
+    private List<String> usernames;
+
+    public BatchLookupDto(List<String> usernames) {
+        this.usernames = usernames;
+    }
+
+    public List<String> getUsernames() {
+        return usernames;
+    }
+
+    public void setUsernames(List<String> usernames) {
+        this.usernames = usernames;
+    }
+}
@@ -0,0 +1,34 @@
+package com.review.payload;
+
+// Average, count and star histogram of one hotel, read from the in-memory aggregates.
+public class RatingSummary {
+
+    private final long hotelId;
+    private final long reviewCount;
+    private final double averageRating;
+    // histogram[0] is the number of 1-star reviews, histogram[4] of 5-star ones
+    private final long[] histogram;
+
+    public RatingSummary(long hotelId, long reviewCount, double averageRating, long[] histogram) {
+        this.hotelId = hotelId;
+        this.reviewCount = reviewCount;
+        this.averageRating = averageRating;
+        this.histogram = histogram;
+    }
+
+    public long getHotelId() {
+        return hotelId;
+    }
+
+    public long getReviewCount() {
+        return reviewCount;
+    }
+
+    public double getAverageRating() {
+        return averageRating;
+    }
+
+    public long[] getHistogram() {
+        return histogram;
+    }
+}
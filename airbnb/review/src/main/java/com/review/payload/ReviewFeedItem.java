@@ -0,0 +1,47 @@
+package com.review.payload;
+
+import java.time.Instant;
+
+// A review as shown in a hotel's feed, with the author's display name already resolved.
+public class ReviewFeedItem {
+
+    private final long reviewId;
+    private final String username;
+    private final String authorName;
+    private final int rating;
+    private final String comment;
+    private final Instant createdAt;
+
+    public ReviewFeedItem(long reviewId, String username, String authorName, int rating, String comment, Instant createdAt) {
+        this.reviewId = reviewId;
+        this.username = username;
+        this.authorName = authorName;
+        this.rating = rating;
+        this.comment = comment;
+        this.createdAt = createdAt;
+    }
+
+    public long getReviewId() {
+        return reviewId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getAuthorName() {
+        return authorName;
+    }
+
+    public int getRating() {
+        return rating;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,27 @@
+package com.review.payload;
+
+import java.util.List;
+
+public class ReviewPage {
+
+    private List<ReviewFeedItem> reviews;
+
+    // opaque token to pass back as ?cursor= for the next page, null on the last page
+    private String nextCursor;
+
+    public List<ReviewFeedItem> getReviews() {
+        return reviews;
+    }
+
+    public void setReviews(List<ReviewFeedItem> reviews) {
+        this.reviews = reviews;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
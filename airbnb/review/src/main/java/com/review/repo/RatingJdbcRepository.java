@@ -0,0 +1,54 @@
+package com.review.repo;
+
+import com.review.entity.HotelRating;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.List;
+
+// Plain JDBC for the rating aggregates: one grouped scan to rebuild them and batched upserts to
+// persist them, neither of which benefits from going through JPA entities.
+@Repository
+public class RatingJdbcRepository {
+
+    private static final String COUNT_BY_HOTEL_AND_RATING =
+            "SELECT hotel_id, rating, COUNT(*) AS reviews FROM reviews GROUP BY hotel_id, rating";
+
+    // the row holds absolute values, so writing the same snapshot twice is harmless
+    private static final String UPSERT_RATING =
+            "INSERT INTO hotel_ratings (hotel_id, review_count, rating_sum, stars_1, stars_2, stars_3, stars_4, stars_5, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE review_count = VALUES(review_count), rating_sum = VALUES(rating_sum), "
+                    + "stars_1 = VALUES(stars_1), stars_2 = VALUES(stars_2), stars_3 = VALUES(stars_3), "
+                    + "stars_4 = VALUES(stars_4), stars_5 = VALUES(stars_5), updated_at = VALUES(updated_at)";
+
+    private JdbcTemplate jdbcTemplate;
+
+    public RatingJdbcRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    // Rows of (hotel_id, rating, reviews).
+    public void countByHotelAndRating(RowCallbackHandler rowHandler) {
+        jdbcTemplate.query(COUNT_BY_HOTEL_AND_RATING, rowHandler);
+    }
+
+    // One batched statement; rewriteBatchedStatements=true on the URL lets the MySQL driver send
+    // it as multi-row INSERTs.
+    public void batchUpsert(List<HotelRating> ratings) {
+        jdbcTemplate.batchUpdate(UPSERT_RATING, ratings, ratings.size(), (ps, rating) -> {
+            ps.setLong(1, rating.getHotelId());
+            ps.setLong(2, rating.getReviewCount());
+            ps.setLong(3, rating.getRatingSum());
+            ps.setLong(4, rating.getStars1());
+            ps.setLong(5, rating.getStars2());
+            ps.setLong(6, rating.getStars3());
+            ps.setLong(7, rating.getStars4());
+            ps.setLong(8, rating.getStars5());
+            ps.setTimestamp(9, Timestamp.from(rating.getUpdatedAt()));
+        });
+    }
+}
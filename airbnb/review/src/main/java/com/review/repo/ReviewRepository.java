@@ -0,0 +1,30 @@
+package com.review.repo;
+
+import com.review.entity.Review;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface ReviewRepository extends JpaRepository<Review, Long> {
+
+    // first page of a hotel's feed, newest first
+    List<Review> findByHotelIdOrderByCreatedAtDescReviewIdDesc(long hotelId, Pageable pageable);
+
+    // following pages: everything strictly older than the last review already returned
+    @Query("SELECT r FROM Review r WHERE r.hotelId = :hotelId AND (r.createdAt < :createdAt "
+            + "OR (r.createdAt = :createdAt AND r.reviewId < :reviewId)) ORDER BY r.createdAt DESC, r.reviewId DESC")
+    List<Review> findFeedBefore(@Param("hotelId") long hotelId, @Param("createdAt") Instant createdAt,
+                                @Param("reviewId") long reviewId, Pageable pageable);
+
+    // 0 when a concurrent delete already removed the row
+    @Transactional
+    @Modifying
+    @Query("delete from Review r where r.reviewId = :reviewId")
+    int deleteByReviewId(@Param("reviewId") long reviewId);
+}
@@ -0,0 +1,32 @@
+package com.review.service;
+
+import com.review.entity.Review;
+import com.review.payload.RatingSummary;
+import com.review.payload.ReviewDto;
+import com.review.payload.ReviewPage;
+
+import java.util.List;
+
+public interface ReviewService {
+
+    //add-review
+    Review addReview(ReviewDto reviewDto);
+
+    //get-review-by-id
+    Review getByReviewId(long reviewId);
+
+    //delete-review
+    void deleteReview(long reviewId);
+
+    //reviews-of-a-hotel, newest first
+    ReviewPage getFeed(long hotelId, String cursor, Integer size);
+
+    //rating-of-a-hotel
+    RatingSummary getRating(long hotelId);
+
+    //ratings-of-several-hotels, e.g. for a listing page
+    List<RatingSummary> getRatings(List<Long> hotelIds);
+
+    //rebuild-ratings-from-reviews
+    int rebuildRatings();
+}
@@ -0,0 +1,66 @@
+package com.review.service.impl;
+
+import com.review.payload.BatchLookupDto;
+import com.review.payload.UserSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Resolves the display names of a page's authors with one POST /users/batch call instead of one
+// GET /users/{id} per review.
+@Component
+public class AuthorResolver {
+
+    Logger logger = LoggerFactory.getLogger(AuthorResolver.class);
+
+    private RestClient userRestClient;
+
+    public AuthorResolver(RestClient userRestClient) {
+        this.userRestClient = userRestClient;
+    }
+
+    // Display names keyed by lower-cased username, or null when the user service could not be
+    // reached; authors it does not know are simply absent.
+    public Map<String, String> resolve(Collection<String> usernames) {
+        Map<String, String> names = new HashMap<>();
+        if (usernames.isEmpty()) {
+            return names;
+        }
+        List<UserSummary> users;
+        try {
+            users = userRestClient.post()
+                    .uri("/users/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(new BatchLookupDto(new ArrayList<>(usernames)))
+                    .retrieve()
+                    .body(new ParameterizedTypeReference<List<UserSummary>>() {});
+        } catch (RestClientException e) {
+            logger.warn("Could not resolve {} review authors: {}", usernames.size(), e.getMessage());
+            return null;
+        }
+        if (users != null) {
+            for (UserSummary user : users) {
+                names.put(user.getUsername().toLowerCase(Locale.ROOT), displayName(user));
+            }
+        }
+        return names;
+    }
+
+    private static String displayName(UserSummary user) {
+        if (user.getFirstName() == null) {
+            return user.getUsername();
+        }
+        return user.getLastName() == null ? user.getFirstName() : user.getFirstName() + " " + user.getLastName();
+    }
+}
@@ -0,0 +1,163 @@
+package com.review.service.impl;
+
+import com.review.entity.HotelRating;
+import com.review.payload.RatingSummary;
+import com.review.repo.RatingJdbcRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Per-hotel star histograms kept in memory and updated on every review write, so an average,
+// count and histogram is a read of five striped counters instead of an AVG/COUNT over reviews.
+// Changed hotels are marked dirty and persisted in batches by RatingFlusher.
+@Component
+@Lazy(false)
+public class RatingAggregator {
+
+    Logger logger = LoggerFactory.getLogger(RatingAggregator.class);
+
+    private RatingJdbcRepository ratingJdbcRepository;
+
+    // Writers hold the shared side while they store a review and count it; a rebuild holds the
+    // exclusive side, so every review is counted either by the rebuild's scan or after it, never both.
+    private final ReentrantReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+
+    private volatile Map<Long, Stars> hotels = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    public RatingAggregator(RatingJdbcRepository ratingJdbcRepository) {
+        this.ratingJdbcRepository = ratingJdbcRepository;
+    }
+
+    // Held around persisting a review and calling add/remove for it.
+    public Lock recordLock() {
+        return rebuildLock.readLock();
+    }
+
+    public void add(long hotelId, int rating) {
+        hotels.computeIfAbsent(hotelId, id -> new Stars()).counts[rating - 1].increment();
+        // marked after counting so a flush that already ran picks it up next time
+        dirty.add(hotelId);
+    }
+
+    public void remove(long hotelId, int rating) {
+        Stars stars = hotels.get(hotelId);
+        if (stars != null) {
+            stars.counts[rating - 1].decrement();
+            dirty.add(hotelId);
+        }
+    }
+
+    public RatingSummary summaryOf(long hotelId) {
+        long[] histogram = new long[5];
+        Stars stars = hotels.get(hotelId);
+        if (stars != null) {
+            for (int i = 0; i < 5; i++) {
+                histogram[i] = stars.counts[i].sum();
+            }
+        }
+        long count = 0;
+        long sum = 0;
+        for (int i = 0; i < 5; i++) {
+            count += histogram[i];
+            sum += histogram[i] * (i + 1);
+        }
+        double average = count == 0 ? 0 : Math.round(sum * 100.0 / count) / 100.0;
+        return new RatingSummary(hotelId, count, average, histogram);
+    }
+
+    // Counted before the web server starts, so no review write lands on an empty histogram.
+    @PostConstruct
+    public void load() {
+        long start = System.currentTimeMillis();
+        int rebuilt = rebuild();
+        logger.info("Rebuilt ratings of {} hotels in {} ms", rebuilt, System.currentTimeMillis() - start);
+    }
+
+    // Recounts every hotel from the reviews table with one grouped scan and swaps the result in.
+    // All hotels, including ones that no longer have reviews, are flushed again afterwards.
+    public int rebuild() {
+        rebuildLock.writeLock().lock();
+        try {
+            Map<Long, Stars> rebuilt = new ConcurrentHashMap<>();
+            ratingJdbcRepository.countByHotelAndRating(rs -> {
+                int rating = rs.getInt("rating");
+                if (rating >= 1 && rating <= 5) {
+                    rebuilt.computeIfAbsent(rs.getLong("hotel_id"), id -> new Stars())
+                            .counts[rating - 1].add(rs.getLong("reviews"));
+                }
+            });
+            dirty.addAll(hotels.keySet());
+            dirty.addAll(rebuilt.keySet());
+            hotels = rebuilt;
+            return rebuilt.size();
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    // Takes up to max dirty hotels off the set and returns their current snapshots.
+    public List<HotelRating> drainDirty(int max) {
+        List<HotelRating> snapshots = new ArrayList<>(Math.min(max, dirty.size()));
+        Instant now = Instant.now();
+        Iterator<Long> iterator = dirty.iterator();
+        while (iterator.hasNext() && snapshots.size() < max) {
+            Long hotelId = iterator.next();
+            iterator.remove();
+            snapshots.add(snapshotOf(hotelId, now));
+        }
+        return snapshots;
+    }
+
+    // Puts back hotels whose snapshots could not be written.
+    public void markDirty(List<HotelRating> snapshots) {
+        for (HotelRating snapshot : snapshots) {
+            dirty.add(snapshot.getHotelId());
+        }
+    }
+
+    public int dirtyCount() {
+        return dirty.size();
+    }
+
+    private HotelRating snapshotOf(long hotelId, Instant now) {
+        RatingSummary summary = summaryOf(hotelId);
+        long[] histogram = summary.getHistogram();
+        HotelRating rating = new HotelRating();
+        rating.setHotelId(hotelId);
+        rating.setReviewCount(summary.getReviewCount());
+        rating.setRatingSum(histogram[0] + 2 * histogram[1] + 3 * histogram[2] + 4 * histogram[3] + 5 * histogram[4]);
+        rating.setStars1(histogram[0]);
+        rating.setStars2(histogram[1]);
+        rating.setStars3(histogram[2]);
+        rating.setStars4(histogram[3]);
+        rating.setStars5(histogram[4]);
+        rating.setUpdatedAt(now);
+        return rating;
+    }
+
+    // LongAdder spreads concurrent increments over cells, so a popular hotel does not turn
+    // one counter into a contention point.
+    private static final class Stars {
+        private final LongAdder[] counts = new LongAdder[5];
+
+        private Stars() {
+            for (int i = 0; i < 5; i++) {
+                counts[i] = new LongAdder();
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.review.service.impl;
+
+import com.review.entity.HotelRating;
+import com.review.repo.RatingJdbcRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Periodically writes the aggregates of hotels that changed since the last run to hotel_ratings,
+// batch by batch. Many reviews of one hotel between two runs cost a single row write.
+@Component
+@Lazy(false)
+public class RatingFlusher {
+
+    Logger logger = LoggerFactory.getLogger(RatingFlusher.class);
+
+    private RatingAggregator ratingAggregator;
+    private RatingJdbcRepository ratingJdbcRepository;
+
+    @Value("${reviews.rating.flush-batch-size:500}")
+    private int batchSize;
+
+    public RatingFlusher(RatingAggregator ratingAggregator, RatingJdbcRepository ratingJdbcRepository) {
+        this.ratingAggregator = ratingAggregator;
+        this.ratingJdbcRepository = ratingJdbcRepository;
+    }
+
+    @Scheduled(fixedDelayString = "${reviews.rating.flush-interval:5000}")
+    public void flush() {
+        List<HotelRating> batch;
+        while (!(batch = ratingAggregator.drainDirty(batchSize)).isEmpty()) {
+            try {
+                ratingJdbcRepository.batchUpsert(batch);
+            } catch (RuntimeException e) {
+                // keep them for the next run rather than losing the update
+                ratingAggregator.markDirty(batch);
+                logger.warn("Failed to flush ratings of {} hotels, {} pending: {}",
+                        batch.size(), ratingAggregator.dirtyCount(), e.getMessage());
+                return;
+            }
+        }
+    }
+}
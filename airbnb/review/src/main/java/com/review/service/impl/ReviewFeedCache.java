@@ -0,0 +1,98 @@
+package com.review.service.impl;
+
+import com.review.payload.ReviewPage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// First feed page of recently read hotels. Versions come from one counter that only moves
+// forward: a new or deleted review stamps its hotel with the next value, and a page loaded under
+// an older version is not stored, so a read racing with a new review cannot put the page without
+// it back into the cache. Evicting a hotel's entry raises evictedFloor to that entry's stamp, so
+// the guard survives the entry itself.
+@Component
+public class ReviewFeedCache {
+
+    @Value("${reviews.feed.cache.size:10000}")
+    private int maxSize;
+
+    @Value("${reviews.feed.cache.ttl:30000}")
+    private long ttl;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong clock = new AtomicLong();
+    // the newest invalidation among evicted entries; stands in for any hotel without an entry
+    private final AtomicLong evictedFloor = new AtomicLong();
+
+    // Read before going to the database and hand back to put afterwards.
+    public long version() {
+        return clock.get();
+    }
+
+    public ReviewPage get(long hotelId) {
+        Entry entry = entries.get(hotelId);
+        if (entry == null || entry.page == null || entry.expiresAt <= System.currentTimeMillis()) {
+            return null;
+        }
+        return entry.page;
+    }
+
+    public void put(long hotelId, ReviewPage page, long loadedAtVersion) {
+        if (entries.size() >= maxSize) {
+            evict();
+        }
+        long expiresAt = System.currentTimeMillis() + ttl;
+        entries.compute(hotelId, (id, current) -> {
+            long invalidatedAt = current == null ? evictedFloor.get() : current.invalidatedAt;
+            return invalidatedAt <= loadedAtVersion ? new Entry(page, invalidatedAt, expiresAt) : current;
+        });
+    }
+
+    // Leaves a page-less entry behind that only carries the new version.
+    public void invalidate(long hotelId) {
+        entries.put(hotelId, new Entry(null, clock.incrementAndGet(), 0));
+    }
+
+    // First expired or invalidated entries; if that frees less than a tenth of the capacity, arbitrary ones too.
+    private void evict() {
+        long now = System.currentTimeMillis();
+        int target = maxSize - maxSize / 10;
+        Iterator<Map.Entry<Long, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext() && entries.size() > target) {
+            Map.Entry<Long, Entry> entry = iterator.next();
+            if (entry.getValue().expiresAt <= now) {
+                remove(entry.getKey(), entry.getValue());
+            }
+        }
+        iterator = entries.entrySet().iterator();
+        while (iterator.hasNext() && entries.size() > target) {
+            Map.Entry<Long, Entry> entry = iterator.next();
+            remove(entry.getKey(), entry.getValue());
+        }
+    }
+
+    // The floor goes up before the entry goes, so a concurrent put sees one or the other; an entry
+    // replaced in the meantime is left alone.
+    private void remove(long hotelId, Entry entry) {
+        evictedFloor.accumulateAndGet(entry.invalidatedAt, Math::max);
+        entries.remove(hotelId, entry);
+    }
+
+    private static final class Entry {
+        private final ReviewPage page;
+        // the version of this hotel's last invalidation, or the floor it inherited
+        private final long invalidatedAt;
+        private final long expiresAt;
+
+        private Entry(ReviewPage page, long invalidatedAt, long expiresAt) {
+            this.page = page;
+            this.invalidatedAt = invalidatedAt;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
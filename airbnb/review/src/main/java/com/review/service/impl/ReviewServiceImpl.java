@@ -0,0 +1,194 @@
+package com.review.service.impl;
+
+import com.review.entity.Review;
+import com.review.exception.ReviewNotFoundException;
+import com.review.exception.ValidationException;
+import com.review.payload.RatingSummary;
+import com.review.payload.ReviewDto;
+import com.review.payload.ReviewFeedItem;
+import com.review.payload.ReviewPage;
+import com.review.repo.ReviewRepository;
+import com.review.service.ReviewService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+
+@Service
+public class ReviewServiceImpl implements ReviewService {
+
+    private ReviewRepository reviewRepository;
+    private RatingAggregator ratingAggregator;
+    private ReviewFeedCache reviewFeedCache;
+    private AuthorResolver authorResolver;
+
+    @Value("${reviews.rating.max-batch:100}")
+    private int maxBatch;
+
+    @Value("${reviews.feed.page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${reviews.feed.max-page-size:100}")
+    private int maxPageSize;
+
+    public ReviewServiceImpl(ReviewRepository reviewRepository, RatingAggregator ratingAggregator,
+                             ReviewFeedCache reviewFeedCache, AuthorResolver authorResolver) {
+        this.reviewRepository = reviewRepository;
+        this.ratingAggregator = ratingAggregator;
+        this.reviewFeedCache = reviewFeedCache;
+        this.authorResolver = authorResolver;
+    }
+
+    @Override
+    public Review addReview(ReviewDto reviewDto) {
+        if (reviewDto.getHotelId() == null || reviewDto.getUsername() == null || reviewDto.getRating() == null) {
+            throw new ValidationException("hotelId, username and rating are required");
+        }
+        if (reviewDto.getRating() < 1 || reviewDto.getRating() > 5) {
+            throw new ValidationException("rating must be between 1 and 5");
+        }
+        Review review = new Review();
+        review.setHotelId(reviewDto.getHotelId());
+        review.setUsername(reviewDto.getUsername());
+        review.setRating(reviewDto.getRating());
+        review.setComment(reviewDto.getComment());
+        // millisecond precision so the value in a cursor compares equal to the stored one
+        review.setCreatedAt(Instant.now().truncatedTo(ChronoUnit.MILLIS));
+
+        Lock lock = ratingAggregator.recordLock();
+        lock.lock();
+        try {
+            Review saved = reviewRepository.save(review);
+            ratingAggregator.add(saved.getHotelId(), saved.getRating());
+            reviewFeedCache.invalidate(saved.getHotelId());
+            return saved;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Review getByReviewId(long reviewId) {
+        return reviewRepository.findById(reviewId)
+                .orElseThrow(() -> new ReviewNotFoundException("Review not found with ID: " + reviewId));
+    }
+
+    @Override
+    public void deleteReview(long reviewId) {
+        Review review = getByReviewId(reviewId);
+        Lock lock = ratingAggregator.recordLock();
+        lock.lock();
+        try {
+            // only the delete that removed the row uncounts it, or racing deletes would count it out twice
+            if (reviewRepository.deleteByReviewId(reviewId) == 1) {
+                ratingAggregator.remove(review.getHotelId(), review.getRating());
+                reviewFeedCache.invalidate(review.getHotelId());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Only the default-sized first page is cached; it is what a hotel page shows and by far the
+    // most read. Deeper pages seek straight into the (hotel_id, created_at, review_id) index.
+    @Override
+    public ReviewPage getFeed(long hotelId, String cursor, Integer size) {
+        int pageSize = size == null ? defaultPageSize : Math.min(Math.max(size, 1), maxPageSize);
+        boolean firstPage = cursor == null || cursor.isEmpty();
+        boolean cacheable = firstPage && pageSize == defaultPageSize;
+        if (cacheable) {
+            ReviewPage cached = reviewFeedCache.get(hotelId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        long version = reviewFeedCache.version();
+
+        // fetch one extra row to learn whether another page exists without a count query
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+        List<Review> reviews;
+        if (firstPage) {
+            reviews = reviewRepository.findByHotelIdOrderByCreatedAtDescReviewIdDesc(hotelId, pageRequest);
+        } else {
+            String[] position = decodeCursor(cursor);
+            reviews = reviewRepository.findFeedBefore(hotelId, Instant.ofEpochMilli(Long.parseLong(position[0])),
+                    Long.parseLong(position[1]), pageRequest);
+        }
+
+        ReviewPage page = new ReviewPage();
+        if (reviews.size() > pageSize) {
+            reviews = reviews.subList(0, pageSize);
+            page.setNextCursor(encodeCursor(reviews.get(pageSize - 1)));
+        }
+        Set<String> usernames = new LinkedHashSet<>();
+        for (Review review : reviews) {
+            usernames.add(review.getUsername().toLowerCase(Locale.ROOT));
+        }
+        Map<String, String> authorNames = authorResolver.resolve(usernames);
+        List<ReviewFeedItem> items = new ArrayList<>(reviews.size());
+        for (Review review : reviews) {
+            String authorName = authorNames == null ? null : authorNames.get(review.getUsername().toLowerCase(Locale.ROOT));
+            items.add(new ReviewFeedItem(review.getReviewId(), review.getUsername(), authorName,
+                    review.getRating(), review.getComment(), review.getCreatedAt()));
+        }
+        page.setReviews(items);
+        // a page without author names is served but not cached, so it is not repeated once the user service is back
+        if (cacheable && authorNames != null) {
+            reviewFeedCache.put(hotelId, page, version);
+        }
+        return page;
+    }
+
+    @Override
+    public RatingSummary getRating(long hotelId) {
+        return ratingAggregator.summaryOf(hotelId);
+    }
+
+    @Override
+    public List<RatingSummary> getRatings(List<Long> hotelIds) {
+        if (hotelIds.size() > maxBatch) {
+            throw new ValidationException("at most " + maxBatch + " hotels can be requested at once");
+        }
+        List<RatingSummary> ratings = new ArrayList<>(hotelIds.size());
+        for (Long hotelId : hotelIds) {
+            ratings.add(ratingAggregator.summaryOf(hotelId));
+        }
+        return ratings;
+    }
+
+    @Override
+    public int rebuildRatings() {
+        return ratingAggregator.rebuild();
+    }
+
+    private static String encodeCursor(Review review) {
+        String position = review.getCreatedAt().toEpochMilli() + ":" + review.getReviewId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // [created_at epoch millis, review_id] of the last review on the previous page
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (position.length != 2) {
+                throw new IllegalArgumentException();
+            }
+            Long.parseLong(position[0]);
+            Long.parseLong(position[1]);
+            return position;
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid cursor: " + cursor);
+        }
+    }
+}
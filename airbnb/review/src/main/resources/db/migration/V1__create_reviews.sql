@@ -0,0 +1,25 @@
+-- Reviews and the per-hotel rating snapshots flushed by RatingFlusher, as Hibernate used to create them.
+
+CREATE TABLE reviews (
+    review_id  BIGINT        NOT NULL AUTO_INCREMENT,
+    hotel_id   BIGINT        NOT NULL,
+    username   VARCHAR(50)   NOT NULL,
+    rating     INT           NOT NULL,
+    comment    VARCHAR(2000),
+    created_at DATETIME(6)   NOT NULL,
+    PRIMARY KEY (review_id),
+    INDEX idx_reviews_hotel_feed (hotel_id, created_at, review_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE hotel_ratings (
+    hotel_id     BIGINT      NOT NULL,
+    review_count BIGINT      NOT NULL,
+    rating_sum   BIGINT      NOT NULL,
+    stars_1      BIGINT      NOT NULL,
+    stars_2      BIGINT      NOT NULL,
+    stars_3      BIGINT      NOT NULL,
+    stars_4      BIGINT      NOT NULL,
+    stars_5      BIGINT      NOT NULL,
+    updated_at   DATETIME(6) NOT NULL,
+    PRIMARY KEY (hotel_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,44 @@
+package com.review.service.impl;
+
+import com.review.entity.HotelRating;
+import com.review.payload.RatingSummary;
+import com.review.repo.RatingJdbcRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class RatingAggregatorTests {
+
+	private final RatingAggregator aggregator = new RatingAggregator(mock(RatingJdbcRepository.class));
+
+	@Test
+	void keepsHistogramAverageAndCountIncrementally() {
+		aggregator.add(7L, 5);
+		aggregator.add(7L, 4);
+		aggregator.add(7L, 4);
+		aggregator.add(7L, 1);
+		aggregator.remove(7L, 1);
+
+		RatingSummary summary = aggregator.summaryOf(7L);
+		assertThat(summary.getReviewCount()).isEqualTo(3);
+		assertThat(summary.getAverageRating()).isEqualTo(4.33);
+		assertThat(summary.getHistogram()).containsExactly(0, 0, 0, 2, 1);
+		assertThat(aggregator.summaryOf(8L).getReviewCount()).isZero();
+	}
+
+	@Test
+	void drainsEachChangedHotelOnce() {
+		aggregator.add(1L, 3);
+		aggregator.add(1L, 5);
+		aggregator.add(2L, 2);
+
+		List<HotelRating> batch = aggregator.drainDirty(10);
+		assertThat(batch).extracting(HotelRating::getHotelId).containsExactlyInAnyOrder(1L, 2L);
+		assertThat(batch).filteredOn(rating -> rating.getHotelId() == 1L)
+				.singleElement().extracting(HotelRating::getRatingSum).isEqualTo(8L);
+		assertThat(aggregator.drainDirty(10)).isEmpty();
+	}
+}
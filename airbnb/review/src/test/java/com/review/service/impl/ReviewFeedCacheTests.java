@@ -0,0 +1,44 @@
+package com.review.service.impl;
+
+import com.review.payload.ReviewPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReviewFeedCacheTests {
+
+	private ReviewFeedCache cache;
+
+	@BeforeEach
+	void setUp() {
+		cache = new ReviewFeedCache();
+		ReflectionTestUtils.setField(cache, "maxSize", 10);
+		ReflectionTestUtils.setField(cache, "ttl", 60_000L);
+	}
+
+	@Test
+	void dropsAPageLoadedBeforeAnInvalidation() {
+		long version = cache.version();
+		cache.invalidate(7L);
+		cache.put(7L, new ReviewPage(), version);
+		assertThat(cache.get(7L)).isNull();
+
+		ReviewPage page = new ReviewPage();
+		cache.put(7L, page, cache.version());
+		assertThat(cache.get(7L)).isSameAs(page);
+	}
+
+	@Test
+	void keepsTheGuardAfterTheInvalidationIsEvicted() {
+		long version = cache.version();
+		cache.invalidate(7L);
+		for (long hotelId = 100; hotelId < 120; hotelId++) {
+			cache.put(hotelId, new ReviewPage(), cache.version());
+		}
+
+		cache.put(7L, new ReviewPage(), version);
+		assertThat(cache.get(7L)).isNull();
+	}
+}
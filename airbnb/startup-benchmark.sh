@@ -0,0 +1,96 @@
+#!/usr/bin/env bash
+# Time from JVM launch to the first answered HTTP request for each service, averaged over a few
+# runs, in three modes: the default profile, the prod profile, and prod with the class data
+# sharing archive from "mvn -Pcds package". Needs the services' MySQL databases to be reachable;
+# jars and archives are built first unless SKIP_BUILD=1.
+#
+#   ./startup-benchmark.sh [runs] [service...]     e.g. ./startup-benchmark.sh 5 user hotel
+set -euo pipefail
+
+cd "$(dirname "$0")"
+RUNS=${1:-3}
+shift || true
+if [ $# -gt 0 ]; then
+    SERVICES=("$@")
+else
+    SERVICES=(user hotel review)
+fi
+
+port_of() {
+    case "$1" in
+        user) echo 8081 ;;
+        hotel) echo 8082 ;;
+        review) echo 8083 ;;
+    esac
+}
+
+# any HTTP status counts: the point is that the server accepted and answered a request
+path_of() {
+    case "$1" in
+        user) echo /actuator/health ;;
+        hotel) echo /hotels/nearby?lat=0\&lon=0\&radiusKm=1 ;;
+        review) echo /reviews/ratings/1 ;;
+    esac
+}
+
+main_class_of() {
+    echo "com.$1.$(tr '[:lower:]' '[:upper:]' <<< "${1:0:1}")${1:1}Application"
+}
+
+now_ms() {
+    date +%s%3N
+}
+
+# prints milliseconds from launch to the first response, then stops the service
+time_to_first_request() {
+    local service=$1 mode=$2
+    local url="http://localhost:$(port_of "$service")$(path_of "$service")"
+    local start pid code
+    start=$(now_ms)
+    case "$mode" in
+        default)
+            java -jar "$service"/target/"$service"-*.jar > /dev/null 2>&1 &
+            ;;
+        prod)
+            java -Dspring.profiles.active=prod -jar "$service"/target/"$service"-*.jar > /dev/null 2>&1 &
+            ;;
+        prod+cds)
+            (cd "$service"/target/cds && exec java -XX:SharedArchiveFile=application.jsa \
+                -Dspring.profiles.active=prod -cp "BOOT-INF/classes:BOOT-INF/lib/*" \
+                "$(main_class_of "$service")") > /dev/null 2>&1 &
+            ;;
+    esac
+    pid=$!
+    while true; do
+        code=$(curl -s -o /dev/null -w '%{http_code}' --max-time 1 "$url" || true)
+        if [ "$code" != "000" ]; then
+            break
+        fi
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "$service ($mode) exited before answering a request" >&2
+            return 1
+        fi
+        sleep 0.05
+    done
+    echo $(( $(now_ms) - start ))
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+}
+
+if [ "${SKIP_BUILD:-0}" != "1" ]; then
+    for service in "${SERVICES[@]}"; do
+        (cd "$service" && sh mvnw -q -B -DskipTests -Pcds package)
+    done
+fi
+
+printf '%-8s %-10s %s\n' service mode "time to first request (ms, mean of $RUNS)"
+for service in "${SERVICES[@]}"; do
+    for mode in default prod prod+cds; do
+        total=0
+        for _ in $(seq "$RUNS"); do
+            elapsed=$(time_to_first_request "$service" "$mode")
+            total=$(( total + elapsed ))
+        done
+        printf '%-8s %-10s %d\n' "$service" "$mode" $(( total / RUNS ))
+    done
+done
@@ -0,0 +1,130 @@
+package com.user.entity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Filling an empty users table in batches of 1000, the import batch size: random v4 ids as 36-char
+// strings, as addUser assigned them before, against UserIds' time-ordered v7 ids in BINARY(16).
+// Both tables carry the username and email keys of V1. The page splits that random keys cause are
+// an InnoDB effect, so the figure that matters comes from a MySQL run at the full size:
+//   -Djmh.args="UserIdInsert -p rows=10000000 -p url=jdbc:mysql://localhost:3306/bench?user=root&password=test&rewriteBatchedStatements=true"
+// The defaults run in memory on H2 and only check that the benchmark works.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class UserIdInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({ "100000" })
+    private int rows;
+
+    @Param({ "jdbc:h2:mem:inserts;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1" })
+    private String url;
+
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void connect() throws SQLException {
+        connection = DriverManager.getConnection(url);
+        connection.setAutoCommit(false);
+    }
+
+    // every measured insert starts from an empty table
+    @Setup(Level.Iteration)
+    public void createTables() throws SQLException {
+        dropTables();
+        execute(createTable("users_random_id", "VARCHAR(36)"));
+        execute(createTable("users_v7_id", "BINARY(16)"));
+    }
+
+    @TearDown(Level.Trial)
+    public void disconnect() throws SQLException {
+        dropTables();
+        connection.close();
+    }
+
+    @Benchmark
+    public int randomStringIds() throws SQLException {
+        return insert("users_random_id", false);
+    }
+
+    @Benchmark
+    public int timeOrderedBinaryIds() throws SQLException {
+        return insert("users_v7_id", true);
+    }
+
+    private int insert(String table, boolean timeOrdered) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + table
+                + " (user_id, username, email, password, first_name, last_name, user_role)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < rows; i++) {
+                if (timeOrdered) {
+                    insert.setBytes(1, UserIds.toBytes(UserIds.newId()));
+                } else {
+                    insert.setString(1, UUID.randomUUID().toString());
+                }
+                insert.setString(2, "u" + i);
+                insert.setString(3, "u" + i + "@example.com");
+                insert.setString(4, "$2a$10$7EqJtq98hPqEX7fNZaFWoO5pBeHzYQaZmBJq9x3aZ7Zk1bWq3H3mW");
+                insert.setString(5, "First");
+                insert.setString(6, "Last");
+                insert.setString(7, "ROLE_USER");
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0 || i + 1 == rows) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static String createTable(String table, String idType) {
+        return "CREATE TABLE " + table + " ("
+                + "user_id " + idType + " NOT NULL, "
+                + "username VARCHAR(20) NOT NULL, "
+                + "email VARCHAR(100) NOT NULL, "
+                + "password VARCHAR(255) NOT NULL, "
+                + "first_name VARCHAR(10) NOT NULL, "
+                + "last_name VARCHAR(10) NOT NULL, "
+                + "user_role VARCHAR(20) NOT NULL, "
+                + "PRIMARY KEY (user_id), "
+                + "CONSTRAINT uk_" + table + "_username UNIQUE (username), "
+                + "CONSTRAINT uk_" + table + "_email UNIQUE (email))";
+    }
+
+    private void dropTables() throws SQLException {
+        execute("DROP TABLE IF EXISTS users_random_id");
+        execute("DROP TABLE IF EXISTS users_v7_id");
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+        connection.commit();
+    }
+}
@@ -0,0 +1,130 @@
+package com.user.exception;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import net.logstash.logback.encoder.LogstashEncoder;
+import net.logstash.logback.stacktrace.ShortenedThrowableConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+// Eight request threads each logging an unexpected error with its stack trace, the way
+// GlobalExceptionHandler reports a 500, through the JSON encoder of logback-spring.xml: written
+// by the request thread itself, against enqueued on the AsyncAppender configured there. The sink
+// discards its bytes, so the sync number is encoding alone and a slow console only widens the gap.
+// With neverBlock an event that finds the queue full is dropped, so the async number is what a
+// request thread pays, not how many events reach the sink. The 404/409/400 outcomes log at DEBUG
+// and are measured by expectedOutcome, which INFO filters out before any event is built.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class ErrorLoggingBenchmark {
+
+    private LoggerContext context;
+    private Logger syncLogger;
+    private Logger asyncLogger;
+    private RuntimeException failure;
+
+    @Setup
+    public void setUp() {
+        context = new LoggerContext();
+        syncLogger = logger("sync", jsonAppender());
+
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(context);
+        async.setQueueSize(8192);
+        async.setDiscardingThreshold(1024);
+        async.setNeverBlock(true);
+        async.setIncludeCallerData(false);
+        async.addAppender(jsonAppender());
+        async.start();
+        asyncLogger = logger("async", async);
+
+        // thrown from deep enough that the 30-frame limit of the converter applies
+        failure = throwFrom(80);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public void syncAppender() {
+        syncLogger.error("Failed to retrieve users list: {}", failure.getMessage(), failure);
+    }
+
+    @Benchmark
+    public void asyncAppender() {
+        asyncLogger.error("Failed to retrieve users list: {}", failure.getMessage(), failure);
+    }
+
+    @Benchmark
+    public void expectedOutcome() {
+        asyncLogger.debug("User not found: {}", failure.getMessage());
+    }
+
+    private Logger logger(String name, Appender<ILoggingEvent> appender) {
+        Logger logger = context.getLogger(name);
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+        return logger;
+    }
+
+    private OutputStreamAppender<ILoggingEvent> jsonAppender() {
+        ShortenedThrowableConverter throwableConverter = new ShortenedThrowableConverter();
+        throwableConverter.setMaxDepthPerThrowable(30);
+        throwableConverter.setRootCauseFirst(true);
+        LogstashEncoder encoder = new LogstashEncoder();
+        encoder.setContext(context);
+        encoder.setThrowableConverter(throwableConverter);
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        return appender;
+    }
+
+    private static RuntimeException throwFrom(int depth) {
+        try {
+            descend(depth);
+            throw new AssertionError();
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private static void descend(int depth) {
+        if (depth == 0) {
+            throw new IllegalStateException("Failed to read users page",
+                    new SQLException("Lock wait timeout exceeded; try restarting transaction", "40001", 1205));
+        }
+        descend(depth - 1);
+    }
+}
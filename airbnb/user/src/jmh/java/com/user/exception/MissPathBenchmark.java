@@ -0,0 +1,73 @@
+package com.user.exception;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// A lookup that misses, thrown from below `depth` frames and caught at the top the way
+// GlobalExceptionHandler sees it. A servlet request through Spring Security and MVC is on the
+// order of a hundred frames deep. Compares a RuntimeException that fills in its stack trace (what
+// UserNotFoundException was), the stackless UserNotFoundException, and a shared instance such as
+// ValidationException.INVALID_CREDENTIALS.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MissPathBenchmark {
+
+    @Param({ "10", "100" })
+    private int depth;
+
+    private String userId = "0190d5b4-3c2a-7e51-9a2b-5f1c2d3e4f60";
+
+    @Benchmark
+    public String stackTraceException() {
+        try {
+            return descend(depth, 0);
+        } catch (RuntimeException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public String stacklessException() {
+        try {
+            return descend(depth, 1);
+        } catch (RuntimeException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public String sharedException() {
+        try {
+            return descend(depth, 2);
+        } catch (RuntimeException e) {
+            return e.getMessage();
+        }
+    }
+
+    private String descend(int remaining, int kind) {
+        if (remaining > 0) {
+            return descend(remaining - 1, kind);
+        }
+        if (kind == 0) {
+            throw new RuntimeException("User not found with ID: " + userId);
+        }
+        if (kind == 1) {
+            throw new UserNotFoundException("User not found with ID: " + userId);
+        }
+        throw ValidationException.INVALID_CREDENTIALS;
+    }
+}
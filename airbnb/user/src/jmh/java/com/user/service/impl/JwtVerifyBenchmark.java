@@ -0,0 +1,85 @@
+package com.user.service.impl;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.user.config.UserMetrics;
+import com.user.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+// Token verification on an authenticated request: a verifier built per call (as before the
+// shared verifier), the shared verifier, and JWTService answering a token it has seen recently.
+// Every request thread shares the one verifier and cache, so the nested classes rerun the same
+// methods at 8 and 32 threads against one benchmark-scoped instance.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerifyBenchmark {
+
+    private static final String KEY = "benchmark-key";
+    private static final String ISSUER = "benchmark";
+
+    private JWTService jwtService;
+    private Algorithm algorithm;
+    private JWTVerifier verifier;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JWTService(new UserMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(jwtService, "algorithmKey", KEY);
+        ReflectionTestUtils.setField(jwtService, "issuer", ISSUER);
+        ReflectionTestUtils.setField(jwtService, "expiryTime", 3_600_000);
+        ReflectionTestUtils.setField(jwtService, "verifiedCacheSize", 1024);
+        jwtService.postConstruct();
+
+        algorithm = Algorithm.HMAC256(KEY);
+        verifier = JWT.require(algorithm).withIssuer(ISSUER).build();
+        User user = new User();
+        user.setUsername("benchmark");
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public DecodedJWT verifierPerCall() {
+        return JWT.require(algorithm).withIssuer(ISSUER).build().verify(token);
+    }
+
+    @Benchmark
+    public DecodedJWT sharedVerifier() {
+        return verifier.verify(token);
+    }
+
+    @Benchmark
+    public JWTService.VerifiedToken cachedVerify() {
+        return jwtService.verify(token);
+    }
+
+    @State(Scope.Benchmark)
+    @Threads(8)
+    public static class Threads8 extends JwtVerifyBenchmark {
+    }
+
+    @State(Scope.Benchmark)
+    @Threads(32)
+    public static class Threads32 extends JwtVerifyBenchmark {
+    }
+}
@@ -1,8 +1,10 @@
 package com.user.config;
 
-import com.user.entity.User;
+import com.user.payload.UserView;
 import com.user.repo.UserRepository;
 import com.user.service.impl.JWTService;
+import com.user.service.impl.PrincipalCache;
+import com.user.service.impl.TokenRevocationList;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -10,10 +12,10 @@ import org.springframework.security.web.authentication.WebAuthenticationDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import javax.servlet.FilterChain;
-import javax.servlet.ServletException;
-import javax.servlet.http.HttpServletRequest;
-import javax.servlet.http.HttpServletResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.Optional;
@@ -23,10 +25,15 @@ public class JWTRequestFilter extends OncePerRequestFilter {
 
     private JWTService jwtService;
     private UserRepository userRepository;
+    private PrincipalCache principalCache;
+    private TokenRevocationList tokenRevocationList;
 
-    public JWTRequestFilter(JWTService jwtService, UserRepository userRepository) {
+    public JWTRequestFilter(JWTService jwtService, UserRepository userRepository, PrincipalCache principalCache,
+                            TokenRevocationList tokenRevocationList) {
         this.jwtService = jwtService;
         this.userRepository = userRepository;
+        this.principalCache = principalCache;
+        this.tokenRevocationList = tokenRevocationList;
     }
 
     @Override
@@ -36,15 +43,29 @@ public class JWTRequestFilter extends OncePerRequestFilter {
             String token = tokenHeader.substring(8, tokenHeader.length() - 1);
 //            System.out.println(token);
 
-            String username = jwtService.getUserName(token);
-            Optional<User> opUser = userRepository.findByUsername(username);
+            // verification of a recently seen token is a cache hit, and the revocation check
+            // must run even when the principal is cached
+            JWTService.VerifiedToken verified = jwtService.verify(token);
+            if (tokenRevocationList.isRevoked(verified)) {
+                filterChain.doFilter(request, response);
+                return;
+            }
 
-            if (opUser.isPresent()){
-                User user = opUser.get();
+            UserView user = principalCache.get(token);
+            if (user == null) {
+                long generation = principalCache.generation();
+                Optional<UserView> opUser = userRepository.findViewByUsername(verified.getUsername());
+                if (opUser.isPresent()) {
+                    user = opUser.get();
+                    principalCache.put(token, user, verified.getExpiresAt(), generation);
+                }
+            }
 
+            if (user != null){
                 //these 3 lines will help me keep track of the current user logged in.
+                // the verified token is kept as the credentials so logout can revoke exactly this token
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        user, null, Collections.singleton(new SimpleGrantedAuthority(user.getUserRole())) );
+                        user, verified, Collections.singleton(new SimpleGrantedAuthority(user.getUserRole())) );
 
                 authentication.setDetails(new WebAuthenticationDetails(request));
 
@@ -0,0 +1,47 @@
+package com.user.config;
+
+import com.user.service.impl.LoginRateLimiter;
+import com.user.service.impl.PrincipalCache;
+import com.user.service.impl.TokenRevocationList;
+import com.user.service.impl.UserCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Cache, rate limiter and token revocation gauges. Hikari pool metrics are registered by Spring Boot itself.
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder userCacheMetrics(UserCache userCache, PrincipalCache principalCache) {
+        return registry -> {
+            FunctionCounter.builder("user.cache.hits", userCache, UserCache::getHits).register(registry);
+            FunctionCounter.builder("user.cache.misses", userCache, UserCache::getMisses).register(registry);
+            FunctionCounter.builder("user.cache.evictions", userCache, UserCache::getEvictions).register(registry);
+            Gauge.builder("user.cache.size", userCache, UserCache::getSize).tag("key", "id").register(registry);
+            Gauge.builder("user.cache.size", userCache, UserCache::getUsernameSize).tag("key", "username")
+                    .register(registry);
+            Gauge.builder("user.principal.cache.size", principalCache, PrincipalCache::getSize).register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder tokenRevocationMetrics(TokenRevocationList tokenRevocationList) {
+        return registry -> Gauge.builder("user.token.revocations", tokenRevocationList, TokenRevocationList::size)
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder loginRateLimiterMetrics(LoginRateLimiter loginRateLimiter) {
+        return registry -> {
+            FunctionCounter.builder("user.login.rejected", loginRateLimiter, LoginRateLimiter::getRejectedByUsername)
+                    .tag("key", "username")
+                    .register(registry);
+            FunctionCounter.builder("user.login.rejected", loginRateLimiter, LoginRateLimiter::getRejectedByIp)
+                    .tag("key", "ip")
+                    .register(registry);
+        };
+    }
+}
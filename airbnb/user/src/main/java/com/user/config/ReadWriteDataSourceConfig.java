@@ -0,0 +1,96 @@
+package com.user.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+// Opt-in with users.datasource.replicas.enabled=true: read-only transactions are sent to the
+// replicas in users.datasource.replicas.urls, writes to spring.datasource.url. The pools are not
+// beans of their own, so there is a single DataSource for JPA and JdbcTemplate; with virtual
+// threads each pool gets its own connection limit here, sized to that pool.
+@Configuration
+@ConditionalOnProperty(name = "users.datasource.replicas.enabled", havingValue = "true")
+public class ReadWriteDataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    @Lazy(false)
+    public ReplicaRouter replicaRouter(DataSourceProperties properties, Environment environment) {
+        Binder binder = Binder.get(environment);
+        DataSource primary = pool(binder, environment, "primary", properties.determineUrl(),
+                properties.determineUsername(), properties.determinePassword(), false);
+
+        List<String> urls = binder.bind("users.datasource.replicas.urls", Bindable.listOf(String.class))
+                .orElse(List.of());
+        String username = environment.getProperty("users.datasource.replicas.username", properties.determineUsername());
+        String password = environment.getProperty("users.datasource.replicas.password", properties.determinePassword());
+        List<DataSource> replicas = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            replicas.add(pool(binder, environment, "replica-" + i, urls.get(i), username, password, true));
+        }
+
+        ReplicaRouter router = new ReplicaRouter(primary, replicas,
+                environment.getProperty("users.datasource.replicas.max-lag-seconds", Long.class, 2L),
+                environment.getProperty("users.datasource.replicas.sticky-window", Long.class, 5000L),
+                environment.getProperty("users.datasource.replicas.lag-query", "SHOW REPLICA STATUS"),
+                environment.getProperty("users.datasource.replicas.lag-column", "Seconds_Behind_Source"),
+                environment.getProperty("users.datasource.replicas.standalone-is-current", Boolean.class, false));
+        router.checkReplicas();
+        return router;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRouter replicaRouter) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(replicaRouter.asDataSource());
+        // otherwise the proxy would open a connection (on the primary) just to learn these defaults
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+        return dataSource;
+    }
+
+    @Bean
+    public MeterBinder replicaRouterMetrics(ReplicaRouter replicaRouter) {
+        return registry -> {
+            FunctionCounter.builder("user.datasource.reads", replicaRouter, ReplicaRouter::getReplicaReads)
+                    .tag("target", "replica")
+                    .register(registry);
+            FunctionCounter.builder("user.datasource.reads", replicaRouter, ReplicaRouter::getPrimaryReads)
+                    .tag("target", "primary")
+                    .register(registry);
+            Gauge.builder("user.datasource.replicas.current", replicaRouter, ReplicaRouter::getCurrentReplicas)
+                    .register(registry);
+        };
+    }
+
+    // Every pool takes the spring.datasource.hikari.* settings, like the single pool did before.
+    private static DataSource pool(Binder binder, Environment environment, String name, String url,
+                                   String username, String password, boolean readOnly) {
+        HikariDataSource pool = new HikariDataSource();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        pool.setJdbcUrl(url);
+        pool.setUsername(username);
+        pool.setPassword(password);
+        pool.setReadOnly(readOnly);
+        if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+            return VirtualThreadConfig.limit(pool, environment);
+        }
+        return pool;
+    }
+}
@@ -0,0 +1,198 @@
+package com.user.config;
+
+import com.user.payload.UserView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Decides per connection whether a statement goes to the primary or to a read replica.
+// Read-only transactions go round-robin to the replicas whose last measured lag is within
+// maxLagSeconds; everything else, and every read when no replica qualifies, goes to the primary.
+// A user who just wrote reads from the primary for stickyWindowMillis so they see their own change.
+public class ReplicaRouter implements Closeable {
+
+    Logger logger = LoggerFactory.getLogger(ReplicaRouter.class);
+
+    private final DataSource primary;
+    private final Replica[] replicas;
+    private final long maxLagSeconds;
+    private final long stickyWindowMillis;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final boolean standaloneIsCurrent;
+
+    private final AtomicInteger next = new AtomicInteger();
+    // username -> until when that user's reads stay on the primary
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder primaryReads = new LongAdder();
+
+    public ReplicaRouter(DataSource primary, List<DataSource> replicas, long maxLagSeconds, long stickyWindowMillis,
+                         String lagQuery, String lagColumn, boolean standaloneIsCurrent) {
+        this.primary = primary;
+        this.replicas = new Replica[replicas.size()];
+        for (int i = 0; i < this.replicas.length; i++) {
+            this.replicas[i] = new Replica(replicas.get(i));
+        }
+        this.maxLagSeconds = maxLagSeconds;
+        this.stickyWindowMillis = stickyWindowMillis;
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+        this.standaloneIsCurrent = standaloneIsCurrent;
+    }
+
+    // Wrapped in a LazyConnectionDataSourceProxy by the caller, so the connection is only fetched
+    // at the first statement, after the transaction's read-only flag has been set.
+    public DataSource asDataSource() {
+        return new AbstractDataSource() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return route().getConnection();
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return route().getConnection(username, password);
+            }
+        };
+    }
+
+    DataSource route() {
+        String username = currentUsername();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // a read-write transaction is treated as a write by whoever is signed in
+            if (username != null) {
+                stickyUntil.put(username, System.currentTimeMillis() + stickyWindowMillis);
+            }
+            return primary;
+        }
+        if (username != null) {
+            Long until = stickyUntil.get(username);
+            if (until != null && until > System.currentTimeMillis()) {
+                primaryReads.increment();
+                return primary;
+            }
+        }
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(replicas.length, 1));
+        for (int i = 0; i < replicas.length; i++) {
+            Replica replica = replicas[(start + i) % replicas.length];
+            if (replica.current) {
+                replicaReads.increment();
+                return replica.dataSource;
+            }
+        }
+        primaryReads.increment();
+        return primary;
+    }
+
+    // A replica that cannot be queried, or whose replication thread is stopped (a null lag), is
+    // skipped until the next check says otherwise. A server that reports no replica status at all
+    // is not replicating, so it is skipped too unless standaloneIsCurrent says a standalone copy
+    // (a local stand-in) may serve reads.
+    @Scheduled(fixedDelayString = "${users.datasource.replicas.lag-check-interval:1000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean current;
+            if (lagQuery == null || lagQuery.isBlank()) {
+                current = true;
+            } else {
+                try (Connection connection = replica.dataSource.getConnection();
+                     Statement statement = connection.createStatement();
+                     ResultSet rs = statement.executeQuery(lagQuery)) {
+                    if (rs.next()) {
+                        Object lag = rs.getObject(lagColumn);
+                        current = lag != null && ((Number) lag).longValue() <= maxLagSeconds;
+                    } else {
+                        current = standaloneIsCurrent;
+                    }
+                } catch (SQLException | RuntimeException e) {
+                    logger.debug("Replica lag check failed: {}", e.getMessage());
+                    current = false;
+                }
+            }
+            if (replica.current != current) {
+                logger.warn("Replica {} is now {}", replica.dataSource, current ? "in use" : "skipped");
+            }
+            replica.current = current;
+        }
+        long now = System.currentTimeMillis();
+        Iterator<Long> iterator = stickyUntil.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() <= now) {
+                iterator.remove();
+            }
+        }
+    }
+
+    public int getCurrentReplicas() {
+        int current = 0;
+        for (Replica replica : replicas) {
+            if (replica.current) {
+                current++;
+            }
+        }
+        return current;
+    }
+
+    public long getReplicaReads() {
+        return replicaReads.sum();
+    }
+
+    public long getPrimaryReads() {
+        return primaryReads.sum();
+    }
+
+    @Override
+    public void close() {
+        close(primary);
+        for (Replica replica : replicas) {
+            close(replica.dataSource);
+        }
+    }
+
+    private void close(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                logger.warn("Failed to close {}: {}", dataSource, e.getMessage());
+            }
+        }
+    }
+
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserView user) {
+            return user.getUsername();
+        }
+        return null;
+    }
+
+    private static final class Replica {
+        private final DataSource dataSource;
+        // replicas start out unused until the first lag check has seen them
+        private volatile boolean current;
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.user.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+// Timers for the stages of a request that are not covered by Spring Boot's own
+// http.server.requests and spring.data.repository.invocations metrics. Timers are
+// registered once; callers pass a System.nanoTime() delta so recording allocates nothing.
+@Component
+public class UserMetrics {
+
+    private final Timer jwtVerify;
+    private final Timer bcryptHash;
+    private final Timer bcryptCheck;
+    private final Timer userMapping;
+
+    public UserMetrics(MeterRegistry registry) {
+        this.jwtVerify = timer(registry, "user.jwt.verify", "JWT signature, issuer and expiry verification");
+        this.bcryptHash = Timer.builder("user.bcrypt")
+                .description("BCrypt work including time queued on the hashing pool")
+                .tag("operation", "hash")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.bcryptCheck = Timer.builder("user.bcrypt")
+                .description("BCrypt work including time queued on the hashing pool")
+                .tag("operation", "check")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.userMapping = timer(registry, "user.mapping", "UserDto to User mapping");
+    }
+
+    public void recordJwtVerify(long nanos) {
+        jwtVerify.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordBcryptHash(long nanos) {
+        bcryptHash.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordBcryptCheck(long nanos) {
+        bcryptCheck.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordUserMapping(long nanos) {
+        userMapping.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer timer(MeterRegistry registry, String name, String description) {
+        return Timer.builder(name)
+                .description(description)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
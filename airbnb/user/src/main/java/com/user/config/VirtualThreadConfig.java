@@ -0,0 +1,39 @@
+package com.user.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+// Opt-in with spring.threads.virtual.enabled=true: Spring Boot then runs Tomcat requests on
+// virtual threads, and every Hikari pool is wrapped so they cannot all rush it. The limit is per
+// pool; the routing DataSource of ReadWriteDataSourceConfig is not wrapped, its pools are.
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingPostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource pool) {
+                    return limit(pool, environment);
+                }
+                return bean;
+            }
+        };
+    }
+
+    // users.datasource.max-concurrent if set, otherwise the pool's own maximum size.
+    static DataSource limit(HikariDataSource pool, Environment environment) {
+        int maxConcurrent = environment.getProperty("users.datasource.max-concurrent", Integer.class,
+                pool.getMaximumPoolSize());
+        long acquireTimeout = environment.getProperty("users.datasource.acquire-timeout", Long.class, 30000L);
+        return new ConnectionLimitingDataSource(pool, maxConcurrent, acquireTimeout);
+    }
+}
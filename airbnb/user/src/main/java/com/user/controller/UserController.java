@@ -1,19 +1,30 @@
 package com.user.controller;
 
-import com.user.entity.User;
+import com.user.exception.UserAlreadyExistsException;
 import com.user.exception.UserNotFoundException;
+import com.user.payload.BatchLookupDto;
+import com.user.payload.CacheStats;
 import com.user.payload.ChangeDto;
+import com.user.payload.ImportReport;
 import com.user.payload.LoginDto;
 import com.user.payload.TokenResponse;
 import com.user.payload.UserDto;
+import com.user.payload.UserPage;
+import com.user.payload.UserSummary;
+import com.user.payload.UserView;
 import com.user.service.UserService;
+import com.user.service.impl.JWTService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -38,32 +49,62 @@ public class UserController {
         return new ResponseEntity<>("User Registered Successful.", HttpStatus.CREATED);
     }
 
+    //bulk-import-users, NDJSON or CSV body streamed straight from the request
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<ImportReport> importUsers(HttpServletRequest request) throws IOException {
+        logger.info("importUsers method in service started.");
+        ImportReport report = userService.importUsers(request.getInputStream(), request.getContentType());
+        logger.info("importUsers method in service has ended.");
+        return new ResponseEntity<>(report, HttpStatus.OK);
+    }
+
     //get-list-of-users
     @GetMapping
-    public ResponseEntity<List<User>> getAllUsers(){
-        logger.info("getAll method in service started.");
-        List<User> all = userService.getAll();
-        logger.info("getAll method in service has ended.");
-        return new ResponseEntity<>(all, HttpStatus.OK);
+    public ResponseEntity<UserPage> getAllUsers(@RequestParam(required = false) String cursor,
+                                                @RequestParam(required = false) Integer size){
+        logger.info("getPage method in service started.");
+        UserPage page = userService.getPage(cursor, size);
+        logger.info("getPage method in service has ended.");
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
+    //export-all-users-as-ndjson
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportUsers(){
+        StreamingResponseBody body = outputStream -> userService.exportAll(outputStream);
+        return new ResponseEntity<>(body, HttpStatus.OK);
     }
 
     //get-user-by-id
     @GetMapping("/{userId}")
-    public ResponseEntity<User> getUserById(@PathVariable String userId){
-        User byUserId = userService.getByUserId(userId);
+    public ResponseEntity<UserView> getUserById(@PathVariable String userId){
+        UserView byUserId = userService.getByUserId(userId);
         return new ResponseEntity<>(byUserId, HttpStatus.OK);
     }
 
+    //get-users-in-batch, one round trip instead of one call per user
+    @PostMapping("/batch")
+    public ResponseEntity<List<UserSummary>> getUsersInBatch(@RequestBody BatchLookupDto batchLookupDto){
+        List<UserSummary> summaries = userService.getSummaries(batchLookupDto);
+        return new ResponseEntity<>(summaries, HttpStatus.OK);
+    }
+
+    //get-user-cache-stats
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStats> getCacheStats(){
+        return new ResponseEntity<>(userService.getCacheStats(), HttpStatus.OK);
+    }
+
     //get-user-by-username
     @GetMapping("/username/{username}")
-    public ResponseEntity<User> getUserByUsername(@PathVariable String username){
-        User byUsername = userService.getByUsername(username);
+    public ResponseEntity<UserView> getUserByUsername(@PathVariable String username){
+        UserView byUsername = userService.getByUsername(username);
         return new ResponseEntity<>(byUsername, HttpStatus.OK);
     }
 
     //update-user-details
     @PutMapping("/update")
-    public ResponseEntity<String> updateUser(@AuthenticationPrincipal User user, @RequestBody UserDto userDto){
+    public ResponseEntity<String> updateUser(@AuthenticationPrincipal UserView user, @RequestBody UserDto userDto){
 
         if (user == null) {
             // Handle authentication failure (e.g., invalid or expired token)
@@ -77,6 +118,9 @@ public class UserController {
         } catch (UserNotFoundException e) {
             // Handle case where the authenticated user not found in the system
             return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+        } catch (UserAlreadyExistsException e) {
+            // Handle case where the new username or email is already taken
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.CONFLICT);
         } catch (Exception e) {
             // Handle other exceptions such as validation errors or database errors
             return new ResponseEntity<>(e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
@@ -85,8 +129,8 @@ public class UserController {
 
     //verify-login
     @PostMapping("/login")
-    public ResponseEntity<?> verifyLogin(@RequestBody LoginDto loginDto){
-        String token = userService.verifyLogin(loginDto);
+    public ResponseEntity<?> verifyLogin(@RequestBody LoginDto loginDto, HttpServletRequest request){
+        String token = userService.verifyLogin(loginDto, request.getRemoteAddr());
 
         if(token!=null){
             TokenResponse tokenResponse = new TokenResponse();
@@ -100,7 +144,7 @@ public class UserController {
 
     //get-users-profile
     @PostMapping("/profile")
-    public ResponseEntity<?> getUserProfile(@AuthenticationPrincipal User user){
+    public ResponseEntity<?> getUserProfile(@AuthenticationPrincipal UserView user){
 
         if (user == null)
             // Handle authentication failure (e.g., invalid or expired token)
@@ -111,7 +155,7 @@ public class UserController {
 
     //change-password
     @PostMapping("/change-password")
-    public ResponseEntity<String> changePassword(@AuthenticationPrincipal User user,
+    public ResponseEntity<String> changePassword(@AuthenticationPrincipal UserView user,
                                                  @RequestBody ChangeDto changeDto){
 
         if (user == null) {
@@ -126,7 +170,7 @@ public class UserController {
 
     /* perform without using AuthenticationPrincipal
     @PostMapping("/change-password/{userId}")
-    public ResponseEntity<String> changePassword(@PathVariable String userId, @AuthenticationPrincipal User user,
+    public ResponseEntity<String> changePassword(@PathVariable String userId, @AuthenticationPrincipal UserView user,
                                                  @RequestBody ChangeDto changeDto){
         userService.changePassword(user.getUserId(), changeDto);
         return new ResponseEntity<>("Password Change successful", HttpStatus.OK);
@@ -140,9 +184,19 @@ public class UserController {
         return new ResponseEntity<>("Password reset instructions sent successfully.", HttpStatus.OK);
     }
 
+    //logout
+    @PostMapping("/logout")
+    public ResponseEntity<String> logout(Authentication authentication) {
+        if (authentication == null || !(authentication.getCredentials() instanceof JWTService.VerifiedToken token)) {
+            return new ResponseEntity<>("Authentication failed", HttpStatus.UNAUTHORIZED);
+        }
+        userService.logout(token);
+        return new ResponseEntity<>("Logged out successfully", HttpStatus.OK);
+    }
+
     //delete-user
     @DeleteMapping("/delete")
-    public ResponseEntity<String> deleteUser(@AuthenticationPrincipal User user) {
+    public ResponseEntity<String> deleteUser(@AuthenticationPrincipal UserView user) {
         String username = user.getUsername();
         userService.deleteUser(username);
         return new ResponseEntity<>("User deleted successfully", HttpStatus.OK);
@@ -0,0 +1,44 @@
+package com.user.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+// A single token revoked by logout; the row is only needed until the token would have expired.
+@Entity
+@Table(name = "revoked_tokens", indexes = @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at"))
+public class RevokedToken {
+    @Id
+    @Column(name = "jti", nullable = false, length = 36)
+    private String jti;
+
+    @Column(name = "username", nullable = false, length = 20)
+    private String username;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    public String getJti() {
+        return jti;
+    }
+
+    public void setJti(String jti) {
+        this.jti = jti;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,33 @@
+package com.user.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+// Every token of the user issued before revokedBefore is invalid, e.g. after a password change.
+@Entity
+@Table(name = "token_cutoffs")
+public class TokenCutoff {
+    @Id
+    @Column(name = "username", nullable = false, length = 20)
+    private String username;
+
+    @Column(name = "revoked_before", nullable = false)
+    private Instant revokedBefore;
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public Instant getRevokedBefore() {
+        return revokedBefore;
+    }
+
+    public void setRevokedBefore(Instant revokedBefore) {
+        this.revokedBefore = revokedBefore;
+    }
+}
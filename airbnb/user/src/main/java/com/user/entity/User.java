@@ -1,20 +1,31 @@
 package com.user.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
 
-import javax.persistence.*;
+import jakarta.persistence.*;
+import java.util.UUID;
 
 @Entity
-@Table(name = "users")
-public class User {
+@DynamicUpdate
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_users_username", columnNames = "username"),
+        @UniqueConstraint(name = "uk_users_email", columnNames = "email")
+})
+public class User implements Persistable<UUID> {
+    // time-ordered UUIDv7 from UserIds, stored as BINARY(16) rather than a 36-char string
     @Id
-    @Column(name = "user_id", nullable = false)
-    private String userId;
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "user_id", nullable = false, length = 16)
+    private UUID userId;
 
     @Column(name = "username", nullable = false, length = 20)
     private String username;
 
-    @Column(name = "email", nullable = false, unique = true, length = 100)
+    @Column(name = "email", nullable = false, length = 100)
     private String email;
 
     @JsonIgnore
@@ -30,6 +41,29 @@ public class User {
     @Column(name = "user_role", nullable = false, length = 20)
     private String userRole = "ROLE_USER";
 
+    // The id is assigned by the application, so without this flag save() could not tell a new
+    // user from a detached one and would issue a SELECT before every INSERT.
+    @Transient
+    private boolean isNew = true;
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @JsonIgnore
+    @Override
+    public UUID getId() {
+        return userId;
+    }
+
+    @JsonIgnore
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
     public String getUserRole() {
         return userRole;
     }
@@ -74,11 +108,11 @@ public class User {
         this.username = username;
     }
 
-    public String getUserId() {
+    public UUID getUserId() {
         return userId;
     }
 
-    public void setUserId(String userId) {
+    public void setUserId(UUID userId) {
         this.userId = userId;
     }
 
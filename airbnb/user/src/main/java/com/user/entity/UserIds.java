@@ -0,0 +1,53 @@
+package com.user.entity;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// User ids are UUIDv7 (RFC 9562): a 48-bit millisecond timestamp in the high bits, so new ids
+// sort after old ones and inserts append to the end of the clustered primary key instead of
+// splitting pages at random. Stored as BINARY(16), shown to clients in the usual string form.
+public final class UserIds {
+
+    // last issued (millis << 12 | sequence); the 12-bit rand_a field carries a sequence so ids
+    // created in the same millisecond by this process are still strictly increasing
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UserIds() {
+    }
+
+    public static UUID newId() {
+        long now = System.currentTimeMillis() << 12;
+        // more than 4096 ids in one millisecond borrow from the next one
+        long state = LAST.updateAndGet(last -> Math.max(last + 1, now));
+        long mostSigBits = (state >>> 12) << 16 | 0x7000L | (state & 0xFFFL);
+        long leastSigBits = ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    // null for anything that is not a UUID, so callers can answer "not found" without a query
+    public static UUID parse(String userId) {
+        if (userId == null || userId.length() != 36) {
+            return null;
+        }
+        try {
+            return UUID.fromString(userId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // Big-endian, the same layout as MySQL's UUID_TO_BIN(id) and Hibernate's BINARY mapping.
+    public static byte[] toBytes(UUID userId) {
+        return ByteBuffer.allocate(16)
+                .putLong(userId.getMostSignificantBits())
+                .putLong(userId.getLeastSignificantBits())
+                .array();
+    }
+
+    public static UUID fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -2,47 +2,101 @@ package com.user.exception;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 
+import java.nio.charset.StandardCharsets;
+
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
     Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    private static final MediaType TEXT_PLAIN_UTF8 = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+
+    // Responses with a fixed body are built once and shared; the body is already encoded so
+    // nothing is converted per request.
+    private static final ResponseEntity<byte[]> INVALID_CREDENTIALS =
+            prebuilt("Validation error: Invalid Credentials", HttpStatus.BAD_REQUEST, null);
+
+    private static final ResponseEntity<byte[]> LOGIN_ATTEMPTS =
+            prebuilt(TooManyRequestsException.LOGIN_ATTEMPTS.getMessage(), HttpStatus.TOO_MANY_REQUESTS, "60");
+
+    private static final ResponseEntity<byte[]> SOMETHING_WENT_WRONG =
+            prebuilt("Something went wrong.", HttpStatus.INTERNAL_SERVER_ERROR, null);
+
+    // 404/409/400 are normal business outcomes: they are logged at DEBUG without a stack trace
+    // so a burst of them (e.g. credential stuffing) cannot turn logging into the bottleneck.
 
     @ExceptionHandler(UserAlreadyExistsException.class)
     public ResponseEntity<String> handleUserAlreadyExistsException(UserAlreadyExistsException e, WebRequest webRequest){
-        logger.error("User already exists:{} "+ e.getMessage(),e);
-        return new ResponseEntity<>("User already exists:{} "+ e.getMessage(), HttpStatus.CONFLICT);
+        logger.debug("User already exists: {}", e.getMessage());
+        return text(e.getMessage(), HttpStatus.CONFLICT);
     }
 
     @ExceptionHandler(UserListRetrievalException.class)
     public ResponseEntity<String> handleUserListRetrievalException(UserListRetrievalException e) {
-        logger.error("Failed to retrieve users list: {}", e.getMessage(), e);
-        return new ResponseEntity<>("Failed to retrieve users list: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        logger.error("Failed to retrieve users list: {}", e.getMessage());
+        return text("Failed to retrieve users list: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
     @ExceptionHandler(UserNotFoundException.class)
-    public ResponseEntity<String> handleUserNotFoundException(Exception e, WebRequest webRequest){
-        logger.error("User not found:{}"+ e.getMessage(), e);
-        return new ResponseEntity<>("User not found:{}"+ e.getMessage(), HttpStatus.NOT_FOUND);
+    public ResponseEntity<String> handleUserNotFoundException(UserNotFoundException e, WebRequest webRequest){
+        logger.debug("User not found: {}", e.getMessage());
+        return text(e.getMessage(), HttpStatus.NOT_FOUND);
     }
 
     @ExceptionHandler(ValidationException.class)
-    public ResponseEntity<String> handleValidationException(ValidationException e, WebRequest webRequest) {
-        logger.error("Validation error: {}", e.getMessage(), e);
-        return new ResponseEntity<>("Validation error: " + e.getMessage(), HttpStatus.BAD_REQUEST);
+    public ResponseEntity<?> handleValidationException(ValidationException e, WebRequest webRequest) {
+        logger.debug("Validation error: {}", e.getMessage());
+        if (e == ValidationException.INVALID_CREDENTIALS) {
+            return INVALID_CREDENTIALS;
+        }
+        return text("Validation error: " + e.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<String> handleServiceBusyException(ServiceBusyException e, WebRequest webRequest) {
+        logger.warn("Service busy: {}", e.getMessage());
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(TEXT_PLAIN_UTF8);
+        headers.set(HttpHeaders.RETRY_AFTER, "1");
+        return new ResponseEntity<>(e.getMessage(), headers, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<?> handleTooManyRequestsException(TooManyRequestsException e, WebRequest webRequest) {
+        if (e == TooManyRequestsException.LOGIN_ATTEMPTS) {
+            return LOGIN_ATTEMPTS;
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(TEXT_PLAIN_UTF8);
+        headers.set(HttpHeaders.RETRY_AFTER, "60");
+        return new ResponseEntity<>(e.getMessage(), headers, HttpStatus.TOO_MANY_REQUESTS);
     }
 
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<String> handleGlobalException(Exception e, WebRequest webRequest){
-        logger.error("An error occurred: "+e.getMessage(), e);
-        return new ResponseEntity<>("Something went wrong.", HttpStatus.INTERNAL_SERVER_ERROR);
+    public ResponseEntity<byte[]> handleGlobalException(Exception e, WebRequest webRequest){
+        logger.error("An error occurred: {}", e.getMessage(), e);
+        return SOMETHING_WENT_WRONG;
     }
 
+    private static ResponseEntity<String> text(String body, HttpStatus status) {
+        return ResponseEntity.status(status).contentType(TEXT_PLAIN_UTF8).body(body);
+    }
+
+    private static ResponseEntity<byte[]> prebuilt(String body, HttpStatus status, String retryAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(TEXT_PLAIN_UTF8);
+        if (retryAfter != null) {
+            headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+        }
+        return new ResponseEntity<>(body.getBytes(StandardCharsets.UTF_8), headers, status);
+    }
 
 }
@@ -0,0 +1,7 @@
+package com.user.exception;
+
+public class ServiceBusyException extends StacklessException {
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.user.exception;
+
+// Base for the exceptions that report ordinary business outcomes (not found, conflict, bad input,
+// back-pressure). They are thrown on hot paths and never logged with a trace, so the stack is not
+// captured: construction is then just an allocation instead of a walk of the whole call stack.
+public abstract class StacklessException extends RuntimeException {
+    protected StacklessException(String message) {
+        super(message, null, false, false);
+    }
+}
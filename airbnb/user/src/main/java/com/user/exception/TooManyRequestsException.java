@@ -0,0 +1,11 @@
+package com.user.exception;
+
+public class TooManyRequestsException extends StacklessException {
+
+    public static final TooManyRequestsException LOGIN_ATTEMPTS =
+            new TooManyRequestsException("Too many login attempts, please retry later.");
+
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,6 @@
 package com.user.exception;
 
-public class UserAlreadyExistsException extends RuntimeException {
+public class UserAlreadyExistsException extends StacklessException {
     public UserAlreadyExistsException(String message) {
         super(message);
     }
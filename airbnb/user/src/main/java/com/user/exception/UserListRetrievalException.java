@@ -1,6 +1,6 @@
 package com.user.exception;
 
-public class UserListRetrievalException extends RuntimeException {
+public class UserListRetrievalException extends StacklessException {
 
     public UserListRetrievalException (String message) {
         super(message);
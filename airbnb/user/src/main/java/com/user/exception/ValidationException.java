@@ -1,6 +1,9 @@
 package com.user.exception;
 
-public class ValidationException extends RuntimeException{
+public class ValidationException extends StacklessException{
+
+    // shared instance for failed logins, the handler answers it with a prebuilt response
+    public static final ValidationException INVALID_CREDENTIALS = new ValidationException("Invalid Credentials");
 
     public ValidationException(String message){
         super(message);
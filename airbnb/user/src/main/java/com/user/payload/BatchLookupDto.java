@@ -0,0 +1,25 @@
+package com.user.payload;
+
+import java.util.List;
+
+public class BatchLookupDto {
+
+    private List<String> userIds;
+    private List<String> usernames;
+
+    public List<String> getUserIds() {
+        return userIds;
+    }
+
+    public void setUserIds(List<String> userIds) {
+        this.userIds = userIds;
+    }
+
+    public List<String> getUsernames() {
+        return usernames;
+    }
+
+    public void setUsernames(List<String> usernames) {
+        this.usernames = usernames;
+    }
+}
@@ -0,0 +1,58 @@
+package com.user.payload;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ImportReport {
+
+    private int accepted;
+    private int rejected;
+
+    // only rejected rows are listed, accepted ones are just counted so the report stays small
+    private List<RowResult> rejections = new ArrayList<>();
+
+    public void accept() {
+        accepted++;
+    }
+
+    public void reject(long line, String username, String reason) {
+        rejected++;
+        rejections.add(new RowResult(line, username, reason));
+    }
+
+    public int getAccepted() {
+        return accepted;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public List<RowResult> getRejections() {
+        return rejections;
+    }
+
+    public static class RowResult {
+        private final long line;
+        private final String username;
+        private final String reason;
+
+        public RowResult(long line, String username, String reason) {
+            this.line = line;
+            this.username = username;
+            this.reason = reason;
+        }
+
+        public long getLine() {
+            return line;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+    }
+}
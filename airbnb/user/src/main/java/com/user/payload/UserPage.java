@@ -0,0 +1,27 @@
+package com.user.payload;
+
+import java.util.List;
+
+public class UserPage {
+
+    private List<UserView> users;
+
+    // opaque token to pass back as ?cursor= for the next page, null on the last page
+    private String nextCursor;
+
+    public List<UserView> getUsers() {
+        return users;
+    }
+
+    public void setUsers(List<UserView> users) {
+        this.users = users;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,35 @@
+package com.user.payload;
+
+import java.util.UUID;
+
+// Compact, read-only view of a user for other services that only need to display who someone is.
+public class UserSummary {
+
+    private final String userId;
+    private final String username;
+    private final String firstName;
+    private final String lastName;
+
+    public UserSummary(UUID userId, String username, String firstName, String lastName) {
+        this.userId = userId.toString();
+        this.username = username;
+        this.firstName = firstName;
+        this.lastName = lastName;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+}
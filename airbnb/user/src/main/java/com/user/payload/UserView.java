@@ -0,0 +1,53 @@
+package com.user.payload;
+
+import java.util.UUID;
+
+// Read-only projection of a user, built directly by the query so plain reads never create a
+// managed User entity (and never load the password hash).
+public class UserView {
+
+    private final String userId;
+    private final String username;
+    private final String email;
+    private final String firstName;
+    private final String lastName;
+    private final String userRole;
+
+    // used by the repository's constructor expressions, which select the binary id as a UUID
+    public UserView(UUID userId, String username, String email, String firstName, String lastName, String userRole) {
+        this(userId.toString(), username, email, firstName, lastName, userRole);
+    }
+
+    public UserView(String userId, String username, String email, String firstName, String lastName, String userRole) {
+        this.userId = userId;
+        this.username = username;
+        this.email = email;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.userRole = userRole;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getUserRole() {
+        return userRole;
+    }
+}
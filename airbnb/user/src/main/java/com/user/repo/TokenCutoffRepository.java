@@ -0,0 +1,22 @@
+package com.user.repo;
+
+import com.user.entity.TokenCutoff;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface TokenCutoffRepository extends JpaRepository<TokenCutoff, String> {
+
+    List<TokenCutoff> findByRevokedBeforeAfter(Instant oldestLiveIssue);
+
+    // a cutoff older than the token lifetime can no longer match a live token
+    @Transactional
+    @Modifying
+    @Query("delete from TokenCutoff c where c.revokedBefore <= :oldestLiveIssue")
+    int deleteObsolete(@Param("oldestLiveIssue") Instant oldestLiveIssue);
+}
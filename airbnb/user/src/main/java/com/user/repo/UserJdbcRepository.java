@@ -0,0 +1,132 @@
+package com.user.repo;
+
+import com.user.entity.User;
+import com.user.entity.UserIds;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import jakarta.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+// Plain JDBC access for the bulk paths where going through JPA entities would
+// materialize every row on the heap.
+@Repository
+public class UserJdbcRepository {
+
+    private static final String SELECT_ALL_USERS =
+            "SELECT user_id, username, email, first_name, last_name, user_role FROM users ORDER BY user_id";
+
+    private static final String SELECT_TAKEN =
+            "SELECT username, email FROM users WHERE username IN (:usernames) OR email IN (:emails)";
+
+    // IGNORE skips a duplicate that slipped past the pre-check instead of failing the batch
+    private static final String INSERT_USER =
+            "INSERT IGNORE INTO users (user_id, username, email, password, first_name, last_name, user_role) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_EXISTING_IDS = "SELECT user_id FROM users WHERE user_id IN (:userIds)";
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcTemplate streamingJdbcTemplate;
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private HikariDataSource exportPool;
+
+    public UserJdbcRepository(DataSource dataSource, DataSourceProperties dataSourceProperties, Environment environment,
+                              @Value("${users.export.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.exportPool = exportPool(dataSourceProperties, environment);
+        this.streamingJdbcTemplate = new JdbcTemplate(exportPool);
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    @PreDestroy
+    public void preDestroy() {
+        exportPool.close();
+    }
+
+    public void streamAll(RowCallbackHandler rowHandler) {
+        streamingJdbcTemplate.query(SELECT_ALL_USERS, rowHandler);
+    }
+
+    // Lower-cased usernames and emails among the given ones that are already registered.
+    public Set<String> findTaken(Collection<String> usernames, Collection<String> emails) {
+        Set<String> taken = new HashSet<>();
+        if (usernames.isEmpty() && emails.isEmpty()) {
+            return taken;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("usernames", usernames.isEmpty() ? null : usernames)
+                .addValue("emails", emails.isEmpty() ? null : emails);
+        namedParameterJdbcTemplate.query(SELECT_TAKEN, params, (RowCallbackHandler) rs -> {
+            taken.add(rs.getString("username").toLowerCase(Locale.ROOT));
+            taken.add(rs.getString("email").toLowerCase(Locale.ROOT));
+        });
+        return taken;
+    }
+
+    // One batched statement for all rows; rewriteBatchedStatements=true on the URL lets the
+    // MySQL driver send it as multi-row INSERTs. The driver then reports SUCCESS_NO_INFO for
+    // every row of such an INSERT, so the counts cannot tell which rows were ignored; callers
+    // ask findExistingIds for the ids they generated instead.
+    public void batchInsert(List<User> users) {
+        jdbcTemplate.batchUpdate(INSERT_USER, users, users.size(), (ps, user) -> {
+            ps.setBytes(1, UserIds.toBytes(user.getUserId()));
+            ps.setString(2, user.getUsername());
+            ps.setString(3, user.getEmail());
+            ps.setString(4, user.getPassword());
+            ps.setString(5, user.getFirstName());
+            ps.setString(6, user.getLastName());
+            ps.setString(7, user.getUserRole());
+        });
+    }
+
+    // With useCursorFetch=true MySQL honours the fetch size and sends the export in chunks instead
+    // of the whole result set at once, but the driver then also runs every statement on that
+    // connection as a server-side prepared statement. Only this small, lazily started pool gets it;
+    // users.export.url can point it at a replica.
+    private static HikariDataSource exportPool(DataSourceProperties properties, Environment environment) {
+        HikariDataSource pool = new HikariDataSource();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        String url = environment.getProperty("users.export.url", properties.determineUrl());
+        pool.setPoolName("export");
+        pool.setJdbcUrl(url + (url.contains("?") ? "&" : "?") + "useCursorFetch=true");
+        pool.setUsername(properties.determineUsername());
+        pool.setPassword(properties.determinePassword());
+        pool.setMaximumPoolSize(environment.getProperty("users.export.pool-size", Integer.class, 2));
+        pool.setMinimumIdle(0);
+        pool.setReadOnly(true);
+        return pool;
+    }
+
+    // The given ids that are stored in users.
+    public Set<UUID> findExistingIds(Collection<UUID> userIds) {
+        Set<UUID> existing = new HashSet<>();
+        if (userIds.isEmpty()) {
+            return existing;
+        }
+        List<byte[]> ids = new ArrayList<>(userIds.size());
+        for (UUID userId : userIds) {
+            ids.add(UserIds.toBytes(userId));
+        }
+        namedParameterJdbcTemplate.query(SELECT_EXISTING_IDS, new MapSqlParameterSource("userIds", ids),
+                (RowCallbackHandler) rs -> existing.add(UserIds.fromBytes(rs.getBytes("user_id"))));
+        return existing;
+    }
+}
@@ -1,13 +1,63 @@
 package com.user.repo;
 
 import com.user.entity.User;
+import com.user.payload.UserSummary;
+import com.user.payload.UserView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
-public interface UserRepository extends JpaRepository<User, String> {
+public interface UserRepository extends JpaRepository<User, UUID>, UserRepositoryCustom {
 
     Optional<User> findByUsername(String username);
 
-    void deleteByUsername(String username);
-}
\ No newline at end of file
+    boolean existsByUsername(String username);
+
+    @Transactional
+    @Modifying
+    @Query("delete from User u where u.username = :username")
+    int deleteByUsername(@Param("username") String username);
+
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :password where u.userId = :userId")
+    int updatePassword(@Param("userId") UUID userId, @Param("password") String password);
+
+    @Query("select new com.user.payload.UserSummary(u.userId, u.username, u.firstName, u.lastName) "
+            + "from User u where u.userId in :userIds")
+    List<UserSummary> findSummariesByUserIdIn(@Param("userIds") Collection<UUID> userIds);
+
+    @Query("select new com.user.payload.UserSummary(u.userId, u.username, u.firstName, u.lastName) "
+            + "from User u where u.username in :usernames")
+    List<UserSummary> findSummariesByUsernameIn(@Param("usernames") Collection<String> usernames);
+
+    // read paths select straight into UserView, so no managed entity or password hash is loaded;
+    // the read-only transaction is opened here, so a cache hit in the service never opens one
+    @Transactional(readOnly = true)
+    @Query("select new com.user.payload.UserView(u.userId, u.username, u.email, u.firstName, u.lastName, u.userRole) "
+            + "from User u where u.userId = :userId")
+    Optional<UserView> findViewByUserId(@Param("userId") UUID userId);
+
+    @Transactional(readOnly = true)
+    @Query("select new com.user.payload.UserView(u.userId, u.username, u.email, u.firstName, u.lastName, u.userRole) "
+            + "from User u where u.username = :username")
+    Optional<UserView> findViewByUsername(@Param("username") String username);
+
+    // keyset pagination: first page, then everything after the last seen user_id; UUIDv7 ids
+    // compare as bytes in creation order, so pages list users oldest first
+    @Query("select new com.user.payload.UserView(u.userId, u.username, u.email, u.firstName, u.lastName, u.userRole) "
+            + "from User u order by u.userId")
+    List<UserView> findViewsOrderByUserId(Pageable pageable);
+
+    @Query("select new com.user.payload.UserView(u.userId, u.username, u.email, u.firstName, u.lastName, u.userRole) "
+            + "from User u where u.userId > :userId order by u.userId")
+    List<UserView> findViewsAfterUserId(@Param("userId") UUID userId, Pageable pageable);
+}
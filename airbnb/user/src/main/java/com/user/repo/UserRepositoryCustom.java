@@ -0,0 +1,9 @@
+package com.user.repo;
+
+import java.util.Map;
+
+public interface UserRepositoryCustom {
+
+    // Issues a single UPDATE touching only the given attributes, returns the affected row count.
+    int updateFields(String username, Map<String, Object> changes);
+}
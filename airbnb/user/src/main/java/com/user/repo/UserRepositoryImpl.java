@@ -0,0 +1,30 @@
+package com.user.repo;
+
+import com.user.entity.User;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import java.util.Map;
+
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int updateFields(String username, Map<String, Object> changes) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<User> update = builder.createCriteriaUpdate(User.class);
+        Root<User> root = update.from(User.class);
+        for (Map.Entry<String, Object> change : changes.entrySet()) {
+            update.set(root.get(change.getKey()), change.getValue());
+        }
+        update.where(builder.equal(root.get("username"), username));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
@@ -1,11 +1,21 @@
 package com.user.service;
 
 import com.user.entity.User;
+import com.user.payload.BatchLookupDto;
+import com.user.payload.CacheStats;
 import com.user.payload.ChangeDto;
 import com.user.payload.ForgotPasswordDto;
+import com.user.payload.ImportReport;
 import com.user.payload.LoginDto;
 import com.user.payload.UserDto;
+import com.user.payload.UserPage;
+import com.user.payload.UserSummary;
+import com.user.payload.UserView;
+import com.user.service.impl.JWTService;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface UserService {
@@ -13,27 +23,42 @@ public interface UserService {
     //add-user
     User addUser(UserDto userDto);
 
-    //get-all-user
-    List<User> getAll();
+    //get-users-page
+    UserPage getPage(String cursor, Integer size);
+
+    //export-all-users
+    void exportAll(OutputStream outputStream) throws IOException;
+
+    //bulk-import-users
+    ImportReport importUsers(InputStream inputStream, String contentType) throws IOException;
 
     //get-user-by-id
-    User getByUserId(String userId);
+    UserView getByUserId(String userId);
+
+    //get-users-in-batch
+    List<UserSummary> getSummaries(BatchLookupDto batchLookupDto);
 
     //get-user-by-username
-    User getByUsername(String username);
+    UserView getByUsername(String username);
 
     //update-user
-    User updateUser(String username, UserDto userDto);
+    void updateUser(String username, UserDto userDto);
 
     //delete-user
     void deleteUser(String username);
 
     //verify-login
-    String verifyLogin(LoginDto loginDto);
+    String verifyLogin(LoginDto loginDto, String clientIp);
 
     //change-password
     void changePassword(String userId, ChangeDto changeDto);
 
+    //logout, revokes the token the request was made with
+    void logout(JWTService.VerifiedToken token);
+
+    //user-cache-stats
+    CacheStats getCacheStats();
+
     //forgot-password
     void forgotPassword(String username);
 
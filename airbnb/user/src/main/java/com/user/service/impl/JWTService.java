@@ -1,14 +1,18 @@
 package com.user.service.impl;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.user.config.UserMetrics;
 import com.user.entity.User;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import javax.annotation.PostConstruct;
+import jakarta.annotation.PostConstruct;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 @Service
 public class JWTService {
@@ -22,28 +26,123 @@ public class JWTService {
     @Value("${jwt.expiry.duration}")
     private int expiryTime;
 
+    @Value("${jwt.verified.cache.size:1024}")
+    private int verifiedCacheSize;
+
     private Algorithm algorithm;
 
+    // JWTVerifier is immutable and thread-safe, so one instance serves every request.
+    private JWTVerifier verifier;
+
+    // Direct-mapped cache of recently verified tokens: a slot is picked by the token's hash
+    // and a newer token simply replaces the older one, so lookups never take a lock.
+    private AtomicReferenceArray<VerifiedToken> verifiedTokens;
+    private int slotMask;
+
     private final static String USER_NAME="username";
 
+    private UserMetrics userMetrics;
+
+    public JWTService(UserMetrics userMetrics) {
+        this.userMetrics = userMetrics;
+    }
+
     @PostConstruct
     public void postConstruct(){
         algorithm = Algorithm.HMAC256(algorithmKey);
+        verifier = JWT.require(algorithm).withIssuer(issuer).build();
+
+        int slots = Integer.highestOneBit(Math.max(verifiedCacheSize, 1) * 2 - 1);
+        verifiedTokens = new AtomicReferenceArray<>(slots);
+        slotMask = slots - 1;
     }
 
+    // The jti lets a single token be revoked on logout, iat lets all tokens issued before a
+    // password change be revoked at once; see TokenRevocationList.
     public String generateToken(User user){
-
+        long now = System.currentTimeMillis();
         return JWT.create()
                 .withClaim(USER_NAME, user.getUsername())
+                .withJWTId(UUID.randomUUID().toString())
                 .withIssuer(issuer)
-                .withExpiresAt(new Date(System.currentTimeMillis()+expiryTime))
+                .withIssuedAt(new Date(now))
+                .withExpiresAt(new Date(now+expiryTime))
                 .sign(algorithm);
     }
 
 
     public String getUserName (String token){
-        DecodedJWT decodedJWT = JWT.require(algorithm).withIssuer(issuer).build().verify(token);
+        return verify(token).getUsername();
+    }
+
+    // Verifies the signature, issuer and expiry of the token. A token seen before within its
+    // lifetime is answered from the cache without decoding or re-computing the HMAC.
+    public VerifiedToken verify(String token){
+        long start = System.nanoTime();
+        int slot = spread(token.hashCode()) & slotMask;
+        VerifiedToken cached = verifiedTokens.get(slot);
+        if (cached != null && cached.expiresAt > System.currentTimeMillis() && cached.token.equals(token)) {
+            userMetrics.recordJwtVerify(System.nanoTime() - start);
+            return cached;
+        }
+
+        try {
+            DecodedJWT decodedJWT = verifier.verify(token);
+            // tokens from before jti/iat were added have neither; iat 0 is older than any cutoff
+            String jti = decodedJWT.getId();
+            VerifiedToken verified = new VerifiedToken(token, decodedJWT.getClaim(USER_NAME).asString(),
+                    decodedJWT.getExpiresAt().getTime(), jti, jti == null ? 0 : TokenRevocationList.hash(jti),
+                    decodedJWT.getIssuedAt() == null ? 0 : decodedJWT.getIssuedAt().getTime());
+            verifiedTokens.set(slot, verified);
+            return verified;
+        } finally {
+            userMetrics.recordJwtVerify(System.nanoTime() - start);
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    public static final class VerifiedToken {
+        private final String token;
+        private final String username;
+        private final long expiresAt;
+        private final String jti;
+        private final long jtiHash;
+        private final long issuedAt;
+
+        private VerifiedToken(String token, String username, long expiresAt, String jti, long jtiHash, long issuedAt) {
+            this.token = token;
+            this.username = username;
+            this.expiresAt = expiresAt;
+            this.jti = jti;
+            this.jtiHash = jtiHash;
+            this.issuedAt = issuedAt;
+        }
+
+        public String getToken() {
+            return token;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public long getExpiresAt() {
+            return expiresAt;
+        }
+
+        public String getJti() {
+            return jti;
+        }
+
+        public long getJtiHash() {
+            return jtiHash;
+        }
 
-        return decodedJWT.getClaim(USER_NAME).asString();
+        public long getIssuedAt() {
+            return issuedAt;
+        }
     }
 }
@@ -0,0 +1,136 @@
+package com.user.service.impl;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Token-bucket limits on login attempts per username and per client IP, checked before any
+// database or BCrypt work. Each bucket is a single AtomicLong holding its "theoretical arrival
+// time" (the GCRA form of a token bucket), so an attempt is one CAS and needs no lock.
+@Component
+@Lazy(false)
+public class LoginRateLimiter {
+
+    @Value("${login.rate.username.per-minute:10}")
+    private int usernamePerMinute;
+
+    @Value("${login.rate.username.burst:5}")
+    private int usernameBurst;
+
+    @Value("${login.rate.ip.per-minute:60}")
+    private int ipPerMinute;
+
+    @Value("${login.rate.ip.burst:20}")
+    private int ipBurst;
+
+    // upper bound on tracked keys per map; past it a new key evicts a few idle buckets or is refused
+    @Value("${login.rate.max-keys:100000}")
+    private int maxKeys;
+
+    // how many buckets a new key looks at for an idle one when its map is full
+    private static final int EVICTION_SAMPLE = 8;
+
+    private final Map<String, AtomicLong> usernameBuckets = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> ipBuckets = new ConcurrentHashMap<>();
+
+    private final LongAdder rejectedByUsername = new LongAdder();
+    private final LongAdder rejectedByIp = new LongAdder();
+
+    private long usernameInterval;
+    private long ipInterval;
+
+    @PostConstruct
+    public void postConstruct() {
+        usernameInterval = TimeUnit.MINUTES.toNanos(1) / usernamePerMinute;
+        ipInterval = TimeUnit.MINUTES.toNanos(1) / ipPerMinute;
+    }
+
+    public boolean tryAcquire(String username, String clientIp) {
+        return tryAcquire(username, clientIp, System.nanoTime());
+    }
+
+    boolean tryAcquire(String username, String clientIp, long now) {
+        if (!tryAcquire(ipBuckets, clientIp == null ? "" : clientIp, ipInterval, ipBurst, now)) {
+            rejectedByIp.increment();
+            return false;
+        }
+        if (!tryAcquire(usernameBuckets, key(username), usernameInterval, usernameBurst, now)) {
+            rejectedByUsername.increment();
+            return false;
+        }
+        return true;
+    }
+
+    // usernames match case-insensitively at login, so Alice and alice must share one bucket
+    private static String key(String username) {
+        return username == null ? "" : username.toLowerCase(Locale.ROOT);
+    }
+
+    public long getRejectedByUsername() {
+        return rejectedByUsername.sum();
+    }
+
+    public long getRejectedByIp() {
+        return rejectedByIp.sum();
+    }
+
+    private boolean tryAcquire(Map<String, AtomicLong> buckets, String key, long interval, int burst, long now) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys && !evictIdle(buckets, now)) {
+                // the map is full of active keys, which only happens under a spray of distinct
+                // usernames or addresses; refuse until sweepIdle or a later sample frees a slot
+                return false;
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        long limit = interval * burst;
+        while (true) {
+            long tat = bucket.get();
+            long newTat = Math.max(tat, now) + interval;
+            if (newTat - now > limit) {
+                return false;
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                return true;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${login.rate.sweep-interval:60000}")
+    public void sweepIdle() {
+        long now = System.nanoTime();
+        sweep(usernameBuckets, now);
+        sweep(ipBuckets, now);
+    }
+
+    // Looks at a few buckets only, so a full map costs the request thread a bounded amount of work;
+    // the full pass is left to sweepIdle.
+    private static boolean evictIdle(Map<String, AtomicLong> buckets, long now) {
+        boolean evicted = false;
+        Iterator<AtomicLong> iterator = buckets.values().iterator();
+        for (int i = 0; i < EVICTION_SAMPLE && iterator.hasNext(); i++) {
+            if (iterator.next().get() - now <= 0) {
+                iterator.remove();
+                evicted = true;
+            }
+        }
+        return evicted;
+    }
+
+    // A bucket whose arrival time has passed is full again, so dropping it changes nothing.
+    private static void sweep(Map<String, AtomicLong> buckets, long now) {
+        buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+    }
+}
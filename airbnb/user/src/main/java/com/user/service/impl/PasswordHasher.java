@@ -0,0 +1,170 @@
+package com.user.service.impl;
+
+import com.user.config.UserMetrics;
+import com.user.exception.ServiceBusyException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Runs BCrypt on its own bounded pool so signup and login bursts cannot take every
+// request thread's CPU. When the queue is full callers get a ServiceBusyException (503).
+// Bulk imports hash on a separate, smaller pool, so a long batch never sits in front of
+// interactive logins and signups in the queue.
+@Service
+public class PasswordHasher {
+
+    @Value("${bcrypt.strength:10}")
+    private int strength;
+
+    // 0 means one thread per available core
+    @Value("${bcrypt.pool.size:0}")
+    private int poolSize;
+
+    // 0 means twice the pool size: a burst waits at most about two hashes' time, and anything
+    // beyond that is refused at once instead of queueing behind every Tomcat worker
+    @Value("${bcrypt.queue.capacity:0}")
+    private int queueCapacity;
+
+    @Value("${bcrypt.timeout:5000}")
+    private long timeout;
+
+    // 0 means half the available cores
+    @Value("${bcrypt.import.pool.size:0}")
+    private int importPoolSize;
+
+    private ThreadPoolExecutor executor;
+    private ThreadPoolExecutor importExecutor;
+
+    private UserMetrics userMetrics;
+
+    public PasswordHasher(UserMetrics userMetrics) {
+        this.userMetrics = userMetrics;
+    }
+
+    @PostConstruct
+    public void postConstruct() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        int threads = poolSize > 0 ? poolSize : cores;
+        executor = newPool("bcrypt-", threads, queueCapacity > 0 ? queueCapacity : 2 * threads);
+        // one slice per thread, and room for one more import's slices to wait
+        int importThreads = importPoolSize > 0 ? importPoolSize : Math.max(1, cores / 2);
+        importExecutor = newPool("bcrypt-import-", importThreads, importThreads);
+    }
+
+    @PreDestroy
+    public void preDestroy() {
+        executor.shutdown();
+        importExecutor.shutdown();
+    }
+
+    public String hash(String rawPassword) {
+        long start = System.nanoTime();
+        try {
+            return execute(() -> BCrypt.hashpw(rawPassword, BCrypt.gensalt(strength)));
+        } finally {
+            userMetrics.recordBcryptHash(System.nanoTime() - start);
+        }
+    }
+
+    // Hashes an import batch in parallel on the import pool. The batch is split into one slice
+    // per import thread so it occupies at most that many queue slots however large it is.
+    public String[] hashAll(List<String> rawPasswords) {
+        String[] hashes = new String[rawPasswords.size()];
+        int slices = Math.min(importExecutor.getCorePoolSize(), hashes.length);
+        List<Future<?>> futures = new ArrayList<>(slices);
+        try {
+            for (int slice = 0; slice < slices; slice++) {
+                int from = slice * hashes.length / slices;
+                int to = (slice + 1) * hashes.length / slices;
+                futures.add(importExecutor.submit(() -> {
+                    for (int i = from; i < to; i++) {
+                        long start = System.nanoTime();
+                        hashes[i] = BCrypt.hashpw(rawPasswords.get(i), BCrypt.gensalt(strength));
+                        userMetrics.recordBcryptHash(System.nanoTime() - start);
+                    }
+                }));
+            }
+        } catch (RejectedExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new ServiceBusyException("Too many password operations in progress, please retry.");
+        }
+        for (Future<?> future : futures) {
+            await(future, timeout * (hashes.length / Math.max(slices, 1) + 1));
+        }
+        return hashes;
+    }
+
+    public boolean matches(String rawPassword, String hashedPassword) {
+        long start = System.nanoTime();
+        try {
+            return execute(() -> BCrypt.checkpw(rawPassword, hashedPassword));
+        } finally {
+            userMetrics.recordBcryptCheck(System.nanoTime() - start);
+        }
+    }
+
+    // True when the hash was produced with a lower work factor than the configured one.
+    public boolean needsUpgrade(String hashedPassword) {
+        // hashes look like $2a$10$..., the two digits after the second '$' are the cost
+        if (hashedPassword == null || hashedPassword.length() < 7 || hashedPassword.charAt(3) != '$') {
+            return true;
+        }
+        int cost = (hashedPassword.charAt(4) - '0') * 10 + (hashedPassword.charAt(5) - '0');
+        return cost < strength;
+    }
+
+    private static ThreadPoolExecutor newPool(String namePrefix, int threads, int queueCapacity) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceBusyException("Too many password operations in progress, please retry.");
+        }
+        return await(future, timeout);
+    }
+
+    private <T> T await(Future<T> future, long timeoutMillis) {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceBusyException("Password operation timed out, please retry.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("Password operation interrupted, please retry.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
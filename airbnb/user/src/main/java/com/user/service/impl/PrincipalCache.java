@@ -0,0 +1,135 @@
+package com.user.service.impl;
+
+import com.user.payload.UserView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Keeps the users behind recently verified tokens so JWTRequestFilter does not query MySQL
+// again on every authenticated request. The filter still verifies the token and checks the
+// revocation list each time; only the user lookup is saved.
+// As in UserCache, a principal loaded before an invalidation is not cached. Tokens are also
+// indexed by username, so invalidating a user touches only that user's entries.
+@Component
+public class PrincipalCache {
+
+    @Value("${jwt.principal.cache.size:10000}")
+    private int maxSize;
+
+    @Value("${jwt.principal.cache.ttl:300000}")
+    private long ttl;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // lower-cased username -> its cached tokens; each set is only touched inside compute on its key
+    private final Map<String, Set<String>> tokensByUsername = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    // Read before loading the user and hand back to put afterwards.
+    public long generation() {
+        return generation.get();
+    }
+
+    public UserView get(String token) {
+        Entry entry = entries.get(token);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            remove(token, entry);
+            return null;
+        }
+        return entry.user;
+    }
+
+    // An entry never outlives the token it was created for.
+    public void put(String token, UserView user, long tokenExpiresAt, long loadedAtGeneration) {
+        long now = System.currentTimeMillis();
+        long expiresAt = Math.min(tokenExpiresAt, now + ttl);
+        if (expiresAt <= now || generation.get() != loadedAtGeneration) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evictExpired(now);
+            if (entries.size() >= maxSize) {
+                // still full of live entries, serve this one uncached
+                return;
+            }
+        }
+        Entry entry = new Entry(user, expiresAt);
+        entries.put(token, entry);
+        tokensByUsername.compute(key(user.getUsername()), (username, tokens) -> {
+            Set<String> updated = tokens == null ? new HashSet<>() : tokens;
+            updated.add(token);
+            return updated;
+        });
+        // an invalidation between the first check and the index update may have missed this token
+        if (generation.get() != loadedAtGeneration) {
+            remove(token, entry);
+        }
+    }
+
+    // Called whenever a user's data or credentials change so no stale principal is served.
+    public void invalidate(String username) {
+        generation.incrementAndGet();
+        Set<String> tokens = tokensByUsername.remove(key(username));
+        if (tokens != null) {
+            for (String token : tokens) {
+                entries.remove(token);
+            }
+        }
+    }
+
+    public void invalidateToken(String token) {
+        Entry entry = entries.get(token);
+        if (entry != null) {
+            remove(token, entry);
+        }
+    }
+
+    public int getSize() {
+        return entries.size();
+    }
+
+    private void evictExpired(long now) {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Entry> entry = iterator.next();
+            if (entry.getValue().expiresAt <= now) {
+                remove(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private void remove(String token, Entry entry) {
+        entries.remove(token, entry);
+        tokensByUsername.computeIfPresent(key(entry.user.getUsername()), (username, tokens) -> {
+            // the same token may have been put again since; put indexes it after storing it
+            if (!entries.containsKey(token)) {
+                tokens.remove(token);
+            }
+            return tokens.isEmpty() ? null : tokens;
+        });
+    }
+
+    // MySQL's default collation compares usernames case-insensitively
+    private static String key(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    private static class Entry {
+        private final UserView user;
+        private final long expiresAt;
+
+        private Entry(UserView user, long expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
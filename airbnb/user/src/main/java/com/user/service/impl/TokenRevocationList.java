@@ -0,0 +1,188 @@
+package com.user.service.impl;
+
+import com.user.entity.RevokedToken;
+import com.user.entity.TokenCutoff;
+import com.user.repo.RevokedTokenRepository;
+import com.user.repo.TokenCutoffRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Revoked tokens, checked on every authenticated request without touching MySQL. Two rules:
+// a per-user cutoff ("every token issued before T", set on password change or deletion) and
+// single token ids revoked by logout. The ids sit behind a Bloom filter, so the common case of a
+// token that was never revoked is answered from a few bits using a hash computed once when the
+// token was verified; only a filter hit is confirmed against the exact set. Both are persisted
+// and reloaded on startup, and entries are pruned once every token they could match has expired.
+@Component
+@Lazy(false)
+public class TokenRevocationList {
+
+    Logger logger = LoggerFactory.getLogger(TokenRevocationList.class);
+
+    @Value("${jwt.expiry.duration}")
+    private long expiryTime;
+
+    @Value("${jwt.revocation.expected-tokens:100000}")
+    private int expectedTokens;
+
+    private RevokedTokenRepository revokedTokenRepository;
+    private TokenCutoffRepository tokenCutoffRepository;
+
+    // jti -> expiry of the revoked token in millis
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    // username -> tokens issued before this many millis are revoked
+    private final Map<String, Long> cutoffs = new ConcurrentHashMap<>();
+
+    // replaced, never cleared, when pruning; writers hold the monitor so none is lost in a swap
+    private volatile BloomFilter filter;
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository, TokenCutoffRepository tokenCutoffRepository) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.tokenCutoffRepository = tokenCutoffRepository;
+    }
+
+    // Loaded before the web server takes requests so no revoked token slips through a restart.
+    @PostConstruct
+    public void load() {
+        long now = System.currentTimeMillis();
+        for (RevokedToken token : revokedTokenRepository.findByExpiresAtAfter(Instant.ofEpochMilli(now))) {
+            revokedTokens.put(token.getJti(), token.getExpiresAt().toEpochMilli());
+        }
+        for (TokenCutoff cutoff : tokenCutoffRepository.findByRevokedBeforeAfter(Instant.ofEpochMilli(now - expiryTime))) {
+            cutoffs.put(cutoff.getUsername(), cutoff.getRevokedBefore().toEpochMilli());
+        }
+        filter = rebuiltFilter();
+        logger.info("Loaded {} revoked tokens and {} token cutoffs", revokedTokens.size(), cutoffs.size());
+    }
+
+    // Hot path: map lookups with existing keys and bit tests on precomputed hashes, no allocation.
+    public boolean isRevoked(JWTService.VerifiedToken token) {
+        Long cutoff = cutoffs.get(token.getUsername());
+        if (cutoff != null && token.getIssuedAt() < cutoff) {
+            return true;
+        }
+        if (token.getJti() == null || !filter.mightContain(token.getJtiHash())) {
+            return false;
+        }
+        return revokedTokens.containsKey(token.getJti());
+    }
+
+    public synchronized void revokeToken(JWTService.VerifiedToken token) {
+        if (token.getJti() == null) {
+            // issued before tokens carried an id; only a cutoff can revoke it
+            revokeAllBefore(token.getUsername(), token.getIssuedAt());
+            return;
+        }
+        RevokedToken revoked = new RevokedToken();
+        revoked.setJti(token.getJti());
+        revoked.setUsername(token.getUsername());
+        revoked.setExpiresAt(Instant.ofEpochMilli(token.getExpiresAt()));
+        revokedTokenRepository.save(revoked);
+        revokedTokens.put(token.getJti(), token.getExpiresAt());
+        filter.add(token.getJtiHash());
+    }
+
+    // Token issue times are whole seconds, so a token issued earlier in the same second as millis
+    // carries the same iat as one issued just after it. The cutoff is the start of the next second,
+    // which revokes both; a login in the same second as the change has to be repeated.
+    public synchronized void revokeAllBefore(String username, long millis) {
+        long cutoff = millis - millis % 1000 + 1000;
+        TokenCutoff tokenCutoff = new TokenCutoff();
+        tokenCutoff.setUsername(username);
+        tokenCutoff.setRevokedBefore(Instant.ofEpochMilli(cutoff));
+        tokenCutoffRepository.save(tokenCutoff);
+        cutoffs.merge(username, cutoff, Math::max);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.prune-interval:60000}")
+    public void prune() {
+        prune(System.currentTimeMillis());
+    }
+
+    void prune(long now) {
+        boolean removed = revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        cutoffs.values().removeIf(cutoff -> cutoff <= now - expiryTime);
+        revokedTokenRepository.deleteExpired(Instant.ofEpochMilli(now));
+        tokenCutoffRepository.deleteObsolete(Instant.ofEpochMilli(now - expiryTime));
+        if (removed) {
+            // a Bloom filter cannot forget, so expired ids go by replacing it
+            synchronized (this) {
+                filter = rebuiltFilter();
+            }
+        }
+    }
+
+    public int size() {
+        return revokedTokens.size() + cutoffs.size();
+    }
+
+    private BloomFilter rebuiltFilter() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedTokens, revokedTokens.size() * 2));
+        for (String jti : revokedTokens.keySet()) {
+            rebuilt.add(hash(jti));
+        }
+        return rebuilt;
+    }
+
+    // 64-bit FNV-1a with a final avalanche; JWTService computes it once per verified token.
+    static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    // Sized for about one false positive in a thousand lookups at the expected capacity.
+    private static final class BloomFilter {
+        private final AtomicLongArray bits;
+        private final int mask;
+        private final int hashes;
+
+        private BloomFilter(int capacity) {
+            long wanted = (long) Math.ceil(capacity * 14.4);
+            int size = (int) Math.min(Integer.highestOneBit((int) Math.min(wanted, 1 << 30)) << 1, 1 << 30);
+            this.bits = new AtomicLongArray(Math.max(size >>> 6, 1));
+            this.mask = Math.max(size, 64) - 1;
+            this.hashes = (int) Math.max(1, Math.min(16, Math.round((double) size / capacity * Math.log(2))));
+        }
+
+        private void add(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashes; i++) {
+                int bit = (h1 + i * h2) & mask;
+                long word;
+                do {
+                    word = bits.get(bit >>> 6);
+                } while (!bits.compareAndSet(bit >>> 6, word, word | (1L << bit)));
+            }
+        }
+
+        private boolean mightContain(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashes; i++) {
+                int bit = (h1 + i * h2) & mask;
+                if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
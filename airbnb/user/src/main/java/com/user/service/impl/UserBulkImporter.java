@@ -0,0 +1,217 @@
+package com.user.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.entity.User;
+import com.user.entity.UserIds;
+import com.user.exception.ValidationException;
+import com.user.payload.ImportReport;
+import com.user.payload.UserDto;
+import com.user.repo.UserJdbcRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+// Streams an NDJSON or CSV upload through in fixed-size chunks: each chunk is validated,
+// checked for existing users with one query, hashed in parallel and inserted as one JDBC batch.
+// Only the current chunk and the list of rejected rows are ever held in memory.
+@Component
+public class UserBulkImporter {
+
+    Logger logger = LoggerFactory.getLogger(UserBulkImporter.class);
+
+    private static final String CSV = "text/csv";
+
+    private UserJdbcRepository userJdbcRepository;
+    private PasswordHasher passwordHasher;
+    private ObjectMapper objectMapper;
+
+    @Value("${users.import.batch-size:1000}")
+    private int batchSize;
+
+    public UserBulkImporter(UserJdbcRepository userJdbcRepository, PasswordHasher passwordHasher,
+                            ObjectMapper objectMapper) {
+        this.userJdbcRepository = userJdbcRepository;
+        this.passwordHasher = passwordHasher;
+        this.objectMapper = objectMapper;
+    }
+
+    public ImportReport importUsers(InputStream inputStream, String contentType) throws IOException {
+        boolean csv = contentType != null && contentType.startsWith(CSV);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        ImportReport report = new ImportReport();
+
+        Map<String, Integer> csvColumns = null;
+        long lineNumber = 0;
+        if (csv) {
+            String header = reader.readLine();
+            lineNumber++;
+            if (header == null) {
+                return report;
+            }
+            csvColumns = parseCsvHeader(header);
+        }
+
+        List<Row> chunk = new ArrayList<>(batchSize);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            try {
+                UserDto userDto = csv ? parseCsvLine(line, csvColumns) : parseJsonLine(line);
+                chunk.add(new Row(lineNumber, userDto));
+            } catch (ValidationException e) {
+                report.reject(lineNumber, null, e.getMessage());
+            }
+            if (chunk.size() == batchSize) {
+                importChunk(chunk, report);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, report);
+        }
+        logger.info("Bulk import finished: {} accepted, {} rejected", report.getAccepted(), report.getRejected());
+        return report;
+    }
+
+    private void importChunk(List<Row> chunk, ImportReport report) {
+        List<Row> valid = new ArrayList<>(chunk.size());
+        Set<String> seen = new HashSet<>();
+        for (Row row : chunk) {
+            String problem = UserFields.problemWithNewUser(row.userDto);
+            if (problem != null) {
+                report.reject(row.line, row.userDto.getUsername(), problem);
+                continue;
+            }
+            boolean newUsername = seen.add(key(row.userDto.getUsername()));
+            boolean newEmail = seen.add(key(row.userDto.getEmail()));
+            if (newUsername && newEmail) {
+                valid.add(row);
+            } else {
+                report.reject(row.line, row.userDto.getUsername(), "Duplicate username or email in upload");
+            }
+        }
+
+        List<String> usernames = new ArrayList<>(valid.size());
+        List<String> emails = new ArrayList<>(valid.size());
+        for (Row row : valid) {
+            usernames.add(row.userDto.getUsername());
+            emails.add(row.userDto.getEmail());
+        }
+        Set<String> taken = userJdbcRepository.findTaken(usernames, emails);
+
+        List<Row> toInsert = new ArrayList<>(valid.size());
+        List<String> passwords = new ArrayList<>(valid.size());
+        for (Row row : valid) {
+            if (taken.contains(key(row.userDto.getUsername())) || taken.contains(key(row.userDto.getEmail()))) {
+                report.reject(row.line, row.userDto.getUsername(), "User already exists");
+            } else {
+                toInsert.add(row);
+                passwords.add(row.userDto.getPassword());
+            }
+        }
+        if (toInsert.isEmpty()) {
+            return;
+        }
+
+        String[] hashes = passwordHasher.hashAll(passwords);
+        List<User> users = new ArrayList<>(toInsert.size());
+        for (int i = 0; i < toInsert.size(); i++) {
+            UserDto userDto = toInsert.get(i).userDto;
+            User user = new User();
+            user.setUserId(UserIds.newId());
+            user.setUsername(userDto.getUsername());
+            user.setEmail(userDto.getEmail());
+            user.setFirstName(userDto.getFirstName());
+            user.setLastName(userDto.getLastName());
+            user.setPassword(hashes[i]);
+            users.add(user);
+        }
+
+        userJdbcRepository.batchInsert(users);
+        // the ids were generated here, so any of them missing from the table is a row INSERT IGNORE skipped
+        List<UUID> userIds = new ArrayList<>(users.size());
+        for (User user : users) {
+            userIds.add(user.getUserId());
+        }
+        Set<UUID> inserted = userJdbcRepository.findExistingIds(userIds);
+        for (int i = 0; i < users.size(); i++) {
+            Row row = toInsert.get(i);
+            if (!inserted.contains(users.get(i).getUserId())) {
+                report.reject(row.line, row.userDto.getUsername(), "User already exists");
+            } else {
+                report.accept();
+            }
+        }
+    }
+
+    private UserDto parseJsonLine(String line) {
+        try {
+            return objectMapper.readValue(line, UserDto.class);
+        } catch (JsonProcessingException e) {
+            throw new ValidationException("Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    // Simple comma separated values with a header row naming the UserDto fields; quoting is not supported.
+    private static Map<String, Integer> parseCsvHeader(String header) {
+        String[] names = header.split(",");
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            columns.put(names[i].trim(), i);
+        }
+        return columns;
+    }
+
+    private static UserDto parseCsvLine(String line, Map<String, Integer> columns) {
+        String[] values = line.split(",", -1);
+        UserDto userDto = new UserDto();
+        userDto.setUsername(column(values, columns, "username"));
+        userDto.setEmail(column(values, columns, "email"));
+        userDto.setPassword(column(values, columns, "password"));
+        userDto.setFirstName(column(values, columns, "firstName"));
+        userDto.setLastName(column(values, columns, "lastName"));
+        return userDto;
+    }
+
+    private static String column(String[] values, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null) {
+            throw new ValidationException("Missing CSV column: " + name);
+        }
+        return index < values.length ? values[index].trim() : null;
+    }
+
+    // MySQL's default collation compares case-insensitively, so duplicates are detected the same way
+    private static String key(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static class Row {
+        private final long line;
+        private final UserDto userDto;
+
+        private Row(long line, UserDto userDto) {
+            this.line = line;
+            this.userDto = userDto;
+        }
+    }
+}
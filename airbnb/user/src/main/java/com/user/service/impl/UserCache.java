@@ -0,0 +1,185 @@
+package com.user.service.impl;
+
+import com.user.payload.UserView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// In-process near-cache for user lookups by id and by username. A found user is one entry
+// reachable from both keys; a miss is remembered for a shorter time under the key that missed.
+// Every invalidation bumps a generation counter, and a load that started before it is not cached,
+// so a lookup racing with an update cannot put the old row back.
+@Component
+public class UserCache {
+
+    @Value("${users.cache.size:50000}")
+    private int maxSize;
+
+    @Value("${users.cache.ttl:60000}")
+    private long ttl;
+
+    @Value("${users.cache.negative-ttl:5000}")
+    private long negativeTtl;
+
+    private final Map<String, Entry> byId = new ConcurrentHashMap<>();
+    private final Map<String, Entry> byUsername = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    // Read before going to the database and hand back to put/putMissing afterwards.
+    public long generation() {
+        return generation.get();
+    }
+
+    // null when the key is not cached; an entry with a null user is a cached miss.
+    public Entry getById(String userId) {
+        return lookup(byId, userId);
+    }
+
+    public Entry getByUsername(String username) {
+        return lookup(byUsername, key(username));
+    }
+
+    public void put(UserView user, long loadedAtGeneration) {
+        Entry entry = new Entry(user, System.currentTimeMillis() + ttl);
+        if (store(byId, user.getUserId(), entry, loadedAtGeneration)) {
+            byUsername.put(key(user.getUsername()), entry);
+            if (generation.get() != loadedAtGeneration) {
+                remove(entry);
+            }
+        }
+    }
+
+    public void putMissingId(String userId, long loadedAtGeneration) {
+        store(byId, userId, new Entry(null, System.currentTimeMillis() + negativeTtl), loadedAtGeneration);
+    }
+
+    public void putMissingUsername(String username, long loadedAtGeneration) {
+        store(byUsername, key(username), new Entry(null, System.currentTimeMillis() + negativeTtl), loadedAtGeneration);
+    }
+
+    public void invalidateUserId(String userId) {
+        generation.incrementAndGet();
+        remove(byId.remove(userId));
+    }
+
+    public void invalidateUsername(String username) {
+        generation.incrementAndGet();
+        remove(byUsername.remove(key(username)));
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        byId.clear();
+        byUsername.clear();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    // A cached user sits under both keys, so each map is counted on its own: adding them would
+    // count every user twice. Cached misses are only in the map of the key that missed.
+    public int getSize() {
+        return byId.size();
+    }
+
+    public int getUsernameSize() {
+        return byUsername.size();
+    }
+
+    private Entry lookup(Map<String, Entry> map, String key) {
+        Entry entry = map.get(key);
+        if (entry != null && entry.expiresAt > System.currentTimeMillis()) {
+            hits.increment();
+            return entry;
+        }
+        if (entry != null && map.remove(key, entry)) {
+            evictions.increment();
+        }
+        misses.increment();
+        return null;
+    }
+
+    private boolean store(Map<String, Entry> map, String key, Entry entry, long loadedAtGeneration) {
+        if (generation.get() != loadedAtGeneration) {
+            return false;
+        }
+        if (byId.size() + byUsername.size() >= maxSize) {
+            evict();
+        }
+        map.put(key, entry);
+        // an invalidation may have slipped in between the check and the put
+        if (generation.get() != loadedAtGeneration) {
+            map.remove(key, entry);
+            return false;
+        }
+        return true;
+    }
+
+    // drops the other key of a user entry that was just removed under one key
+    private void remove(Entry entry) {
+        if (entry != null && entry.user != null) {
+            byId.remove(entry.user.getUserId(), entry);
+            byUsername.remove(key(entry.user.getUsername()), entry);
+        }
+    }
+
+    // First expired entries; if that frees less than a tenth of the capacity, arbitrary ones too.
+    private void evict() {
+        long now = System.currentTimeMillis();
+        int target = maxSize - maxSize / 10;
+        evictFrom(byId, now, target, true);
+        evictFrom(byUsername, now, target, true);
+        evictFrom(byId, now, target, false);
+        evictFrom(byUsername, now, target, false);
+    }
+
+    private void evictFrom(Map<String, Entry> map, long now, int target, boolean expiredOnly) {
+        Iterator<Entry> iterator = map.values().iterator();
+        while (iterator.hasNext() && byId.size() + byUsername.size() > target) {
+            Entry entry = iterator.next();
+            if (!expiredOnly || entry.expiresAt <= now) {
+                iterator.remove();
+                remove(entry);
+                evictions.increment();
+            }
+        }
+    }
+
+    // MySQL compares usernames case-insensitively, so the cache does too
+    private static String key(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    public static final class Entry {
+        private final UserView user;
+        private final long expiresAt;
+
+        private Entry(UserView user, long expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+
+        public UserView getUser() {
+            return user;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.user.service.impl;
+
+import com.user.payload.UserDto;
+
+// The column constraints on users, checked up front so bad input is a 400 with a message instead
+// of a constraint violation from the database. Each method returns the first problem, or null.
+final class UserFields {
+
+    private UserFields() {
+    }
+
+    // A signup or imported row: every field is required.
+    static String problemWithNewUser(UserDto userDto) {
+        if (isBlank(userDto.getUsername()) || userDto.getUsername().length() > 20) {
+            return "username is required and must be at most 20 characters";
+        }
+        if (isBlank(userDto.getEmail()) || userDto.getEmail().length() > 100) {
+            return "email is required and must be at most 100 characters";
+        }
+        if (isBlank(userDto.getPassword())) {
+            return "password is required";
+        }
+        if (isBlank(userDto.getFirstName()) || userDto.getFirstName().length() > 10) {
+            return "firstName is required and must be at most 10 characters";
+        }
+        if (isBlank(userDto.getLastName()) || userDto.getLastName().length() > 10) {
+            return "lastName is required and must be at most 10 characters";
+        }
+        return null;
+    }
+
+    // A patch: absent fields are left alone, present ones must still fit their columns.
+    static String problemWithChanges(UserDto userDto) {
+        if (userDto.getUsername() != null && (userDto.getUsername().isBlank() || userDto.getUsername().length() > 20)) {
+            return "username must not be blank and must be at most 20 characters";
+        }
+        if (userDto.getEmail() != null && (userDto.getEmail().isBlank() || userDto.getEmail().length() > 100)) {
+            return "email must not be blank and must be at most 100 characters";
+        }
+        if (userDto.getFirstName() != null && (userDto.getFirstName().isBlank() || userDto.getFirstName().length() > 10)) {
+            return "firstName must not be blank and must be at most 10 characters";
+        }
+        if (userDto.getLastName() != null && (userDto.getLastName().isBlank() || userDto.getLastName().length() > 10)) {
+            return "lastName must not be blank and must be at most 10 characters";
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,59 @@
+package com.user.service.impl;
+
+import com.user.config.UserMetrics;
+import com.user.entity.User;
+import com.user.payload.UserDto;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Copies UserDto fields onto a User with patch semantics: only non-null fields are applied.
+// userId and password are never copied, callers assign the generated id and the hash themselves.
+@Component
+public class UserMapper {
+
+    private UserMetrics userMetrics;
+
+    public UserMapper(UserMetrics userMetrics) {
+        this.userMetrics = userMetrics;
+    }
+
+    public User applyTo(User user, UserDto userDto) {
+        long start = System.nanoTime();
+        if (userDto.getUsername() != null) {
+            user.setUsername(userDto.getUsername());
+        }
+        if (userDto.getEmail() != null) {
+            user.setEmail(userDto.getEmail());
+        }
+        if (userDto.getFirstName() != null) {
+            user.setFirstName(userDto.getFirstName());
+        }
+        if (userDto.getLastName() != null) {
+            user.setLastName(userDto.getLastName());
+        }
+        userMetrics.recordUserMapping(System.nanoTime() - start);
+        return user;
+    }
+
+    // The same patch expressed as entity attribute -> new value, for a partial UPDATE.
+    public Map<String, Object> toChanges(UserDto userDto) {
+        long start = System.nanoTime();
+        Map<String, Object> changes = new LinkedHashMap<>(8);
+        if (userDto.getUsername() != null) {
+            changes.put("username", userDto.getUsername());
+        }
+        if (userDto.getEmail() != null) {
+            changes.put("email", userDto.getEmail());
+        }
+        if (userDto.getFirstName() != null) {
+            changes.put("firstName", userDto.getFirstName());
+        }
+        if (userDto.getLastName() != null) {
+            changes.put("lastName", userDto.getLastName());
+        }
+        userMetrics.recordUserMapping(System.nanoTime() - start);
+        return changes;
+    }
+}
@@ -1,19 +1,43 @@
 package com.user.service.impl;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.user.entity.User;
+import com.user.entity.UserIds;
 import com.user.exception.*;
+import com.user.payload.BatchLookupDto;
+import com.user.payload.CacheStats;
 import com.user.payload.ChangeDto;
 import com.user.payload.ForgotPasswordDto;
+import com.user.payload.ImportReport;
 import com.user.payload.LoginDto;
 import com.user.payload.UserDto;
+import com.user.payload.UserPage;
+import com.user.payload.UserSummary;
+import com.user.payload.UserView;
+import com.user.repo.UserJdbcRepository;
 import com.user.repo.UserRepository;
 import com.user.service.UserService;
-import org.modelmapper.Conditions;
-import org.modelmapper.ModelMapper;
-import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -21,125 +45,323 @@ import java.util.UUID;
 public class UserServiceImpl implements UserService {
 
     private UserRepository userRepository;
-    private ModelMapper modelMapper;
+    private UserMapper userMapper;
     private JWTService jwtService;
+    private PrincipalCache principalCache;
+    private PasswordHasher passwordHasher;
+    private UserJdbcRepository userJdbcRepository;
+    private ObjectMapper objectMapper;
+    private UserBulkImporter userBulkImporter;
+    private UserCache userCache;
+    private LoginRateLimiter loginRateLimiter;
+    private TokenRevocationList tokenRevocationList;
 
-    public UserServiceImpl(UserRepository userRepository, ModelMapper modelMapper, JWTService jwtService) {
+    @Value("${users.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${users.page.max-size:100}")
+    private int maxPageSize;
+
+    @Value("${users.batch.max-size:1000}")
+    private int maxBatchSize;
+
+    private static final int BATCH_CHUNK_SIZE = 500;
+
+    public UserServiceImpl(UserRepository userRepository, UserMapper userMapper, JWTService jwtService,
+                           PrincipalCache principalCache, PasswordHasher passwordHasher,
+                           UserJdbcRepository userJdbcRepository, ObjectMapper objectMapper,
+                           UserBulkImporter userBulkImporter, UserCache userCache,
+                           LoginRateLimiter loginRateLimiter, TokenRevocationList tokenRevocationList) {
+        this.loginRateLimiter = loginRateLimiter;
+        this.tokenRevocationList = tokenRevocationList;
+        this.userBulkImporter = userBulkImporter;
+        this.userCache = userCache;
         this.userRepository = userRepository;
-        this.modelMapper = modelMapper;
+        this.userJdbcRepository = userJdbcRepository;
+        this.objectMapper = objectMapper;
+        this.userMapper = userMapper;
         this.jwtService = jwtService;
+        this.principalCache = principalCache;
+        this.passwordHasher = passwordHasher;
     }
 
 
     @Override
     public User addUser(UserDto userDto) {
-
-        if(userRepository.findByUsername(userDto.getUsername()).isPresent()){
-            throw new UserAlreadyExistsException("User already exists with username: " + userDto.getUsername());
+        String problem = UserFields.problemWithNewUser(userDto);
+        if (problem != null) {
+            throw new ValidationException(problem);
         }
-        else {
-            User user= new User();
-            // Map the fields from the UserDto to the User entity.
-            mapToEntity(user, userDto);
-            String randomUserId = UUID.randomUUID().toString();
-            user.setUserId(randomUserId);
-            user.setPassword(BCrypt.hashpw(userDto.getPassword(), BCrypt.gensalt(10)));
-            User saved = userRepository.save(user);
-            return saved;
+        User user= new User();
+        // Map the fields from the UserDto to the User entity.
+        userMapper.applyTo(user, userDto);
+        user.setUserId(UserIds.newId());
+        user.setPassword(passwordHasher.hash(userDto.getPassword()));
+        // the unique indexes on username and email decide duplicates in the same round trip as the insert
+        User saved;
+        try {
+            saved = userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            if (!isDuplicateUser(e)) {
+                throw e;
+            }
+            throw new UserAlreadyExistsException("User already exists with username or email: " + userDto.getUsername());
         }
+        // drop a cached "not found" for the new username
+        userCache.invalidateUsername(saved.getUsername());
+        return saved;
     }
 
     @Override
-    public List<User> getAll() {
+    @Transactional(readOnly = true)
+    public UserPage getPage(String cursor, Integer size) {
+        int pageSize = size == null ? defaultPageSize : Math.min(Math.max(size, 1), maxPageSize);
+        UUID afterUserId = cursor == null || cursor.isEmpty() ? null : decodeCursor(cursor);
+
+        List<UserView> users;
         try {
-            List<User> all = userRepository.findAll();
-            return all;
+            // fetch one extra row to learn whether another page exists without a count query
+            PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+            users = afterUserId == null
+                    ? userRepository.findViewsOrderByUserId(pageRequest)
+                    : userRepository.findViewsAfterUserId(afterUserId, pageRequest);
         }
         catch (Exception e){
             throw new UserListRetrievalException("Failed to retrieve users list {}");
         }
+
+        UserPage page = new UserPage();
+        if (users.size() > pageSize) {
+            users = users.subList(0, pageSize);
+            page.setNextCursor(encodeCursor(users.get(pageSize - 1).getUserId()));
+        }
+        page.setUsers(users);
+        return page;
+    }
+
+    @Override
+    public void exportAll(OutputStream outputStream) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        // rows are written as they arrive from the JDBC cursor, one JSON object per line
+        userJdbcRepository.streamAll(rs -> {
+            try {
+                generator.writeStartObject();
+                generator.writeStringField("userId", UserIds.fromBytes(rs.getBytes("user_id")).toString());
+                generator.writeStringField("username", rs.getString("username"));
+                generator.writeStringField("email", rs.getString("email"));
+                generator.writeStringField("firstName", rs.getString("first_name"));
+                generator.writeStringField("lastName", rs.getString("last_name"));
+                generator.writeStringField("userRole", rs.getString("user_role"));
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        generator.flush();
+    }
+
+    @Override
+    public ImportReport importUsers(InputStream inputStream, String contentType) throws IOException {
+        try {
+            return userBulkImporter.importUsers(inputStream, contentType);
+        } finally {
+            // imported usernames may have cached "not found" entries
+            userCache.invalidateAll();
+        }
     }
 
     @Override
-    public User getByUserId(String userId) {
-        Optional<User> byId = userRepository.findById(userId);
+    public UserView getByUserId(String userId) {
+        UUID id = UserIds.parse(userId);
+        if (id == null) {
+            throw new UserNotFoundException("User not found with ID: " + userId);
+        }
+        // cache keys use the canonical lower-case form the views carry
+        userId = id.toString();
+        UserCache.Entry cached = userCache.getById(userId);
+        if (cached != null) {
+            if (cached.getUser() == null) {
+                throw new UserNotFoundException("User not found with ID: " + userId);
+            }
+            return cached.getUser();
+        }
+
+        long generation = userCache.generation();
+        Optional<UserView> byId = userRepository.findViewByUserId(id);
         if(byId.isPresent()){
-            User user = byId.get();
+            UserView user = byId.get();
+            userCache.put(user, generation);
             return user;
         }
         else {
+            userCache.putMissingId(userId, generation);
             throw new UserNotFoundException("User not found with ID: " + userId);
         }
     }
 
     @Override
-    public User getByUsername(String username) {
-        Optional<User> byUsername = userRepository.findByUsername(username);
+    public UserView getByUsername(String username) {
+        UserCache.Entry cached = userCache.getByUsername(username);
+        if (cached != null) {
+            if (cached.getUser() == null) {
+                throw new UserNotFoundException("User not found with Username: "+username);
+            }
+            return cached.getUser();
+        }
+
+        long generation = userCache.generation();
+        Optional<UserView> byUsername = userRepository.findViewByUsername(username);
         if (byUsername.isPresent()){
-            User user = byUsername.get();
+            UserView user = byUsername.get();
+            userCache.put(user, generation);
             return user;
         }
         else{
+            userCache.putMissingUsername(username, generation);
             throw new UserNotFoundException("User not found with Username: "+username);
         }
     }
 
     @Override
-    public User updateUser(String username, UserDto userDto) {
-        Optional<User> byUsername = userRepository.findByUsername(username);
-        if(byUsername.isPresent()){
-            User user = byUsername.get();
-            // Map the fields from the userDto to the existing user entity.
-            User updatedUser = mapToEntity(user, userDto);
-            User saved = userRepository.save(updatedUser);
-            return saved;
+    @Transactional(readOnly = true)
+    public List<UserSummary> getSummaries(BatchLookupDto batchLookupDto) {
+        List<UUID> userIds = new ArrayList<>();
+        for (String userId : distinct(batchLookupDto.getUserIds())) {
+            // an id that is not a UUID cannot match anyone
+            UUID id = UserIds.parse(userId);
+            if (id != null) {
+                userIds.add(id);
+            }
+        }
+        List<String> usernames = distinct(batchLookupDto.getUsernames());
+        if (userIds.size() + usernames.size() > maxBatchSize) {
+            throw new ValidationException("At most " + maxBatchSize + " users can be looked up at once");
+        }
+
+        // one IN query per chunk keeps each statement within a sensible parameter count
+        Map<String, UserSummary> found = new LinkedHashMap<>();
+        for (int from = 0; from < userIds.size(); from += BATCH_CHUNK_SIZE) {
+            List<UUID> chunk = userIds.subList(from, Math.min(from + BATCH_CHUNK_SIZE, userIds.size()));
+            for (UserSummary summary : userRepository.findSummariesByUserIdIn(chunk)) {
+                found.put(summary.getUserId(), summary);
+            }
+        }
+        for (int from = 0; from < usernames.size(); from += BATCH_CHUNK_SIZE) {
+            List<String> chunk = usernames.subList(from, Math.min(from + BATCH_CHUNK_SIZE, usernames.size()));
+            for (UserSummary summary : userRepository.findSummariesByUsernameIn(chunk)) {
+                found.put(summary.getUserId(), summary);
+            }
+        }
+        return new ArrayList<>(found.values());
+    }
+
+    private static List<String> distinct(List<String> values) {
+        if (values == null) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(new LinkedHashSet<>(values));
+    }
+
+    @Override
+    public void updateUser(String username, UserDto userDto) {
+        String problem = UserFields.problemWithChanges(userDto);
+        if (problem != null) {
+            throw new ValidationException(problem);
+        }
+        Map<String, Object> changes = userMapper.toChanges(userDto);
+        boolean found;
+        if (changes.isEmpty()) {
+            found = userRepository.existsByUsername(username);
         } else {
+            // a single UPDATE of just the changed columns, no load of the current row
+            try {
+                found = userRepository.updateFields(username, changes) > 0;
+            } catch (DataIntegrityViolationException e) {
+                if (!isDuplicateUser(e)) {
+                    throw e;
+                }
+                throw new UserAlreadyExistsException("User already exists with username or email: " + userDto.getUsername());
+            }
+        }
+        if (!found) {
             throw new UserNotFoundException("User not found with Username: " + username);
         }
+        principalCache.invalidate(username);
+        userCache.invalidateUsername(username);
+        if (userDto.getUsername() != null) {
+            userCache.invalidateUsername(userDto.getUsername());
+        }
     }
 
     @Override
     public void deleteUser(String username) {
-        Optional<User> byUsername = userRepository.findByUsername(username);
-        if (byUsername.isPresent()){
-            User user = byUsername.get();
-            userRepository.deleteByUsername(username);
-        }
-        else {
+        if (userRepository.deleteByUsername(username) == 0) {
             throw new UserNotFoundException("User not found with Username: "+username);
         }
+        // otherwise the tokens would come back to life if someone registers the username again
+        tokenRevocationList.revokeAllBefore(username, System.currentTimeMillis());
+        principalCache.invalidate(username);
+        userCache.invalidateUsername(username);
     }
 
     @Override
-    public String verifyLogin(LoginDto loginDto) {
+    public String verifyLogin(LoginDto loginDto, String clientIp) {
+        if (!loginRateLimiter.tryAcquire(loginDto.getUsername(), clientIp)) {
+            throw TooManyRequestsException.LOGIN_ATTEMPTS;
+        }
         Optional<User> byUsername = userRepository.findByUsername(loginDto.getUsername());
         if(byUsername.isPresent()){
             User user = byUsername.get();
-            if(BCrypt.checkpw(loginDto.getPassword(), user.getPassword())){
+            if(passwordHasher.matches(loginDto.getPassword(), user.getPassword())){
+                // transparently re-hash passwords stored with an older work factor
+                if (passwordHasher.needsUpgrade(user.getPassword())) {
+                    userRepository.updatePassword(user.getUserId(), passwordHasher.hash(loginDto.getPassword()));
+                }
                 return jwtService.generateToken(user);
             }
             else {
-                throw new ValidationException("Validation error: Invalid Credentials");
+                throw ValidationException.INVALID_CREDENTIALS;
             }
         }
         else {
-            throw new ValidationException("Validation error: Invalid Credentials");
+            throw ValidationException.INVALID_CREDENTIALS;
         }
     }
 
     @Override
     public void changePassword(String userId, ChangeDto changeDto) {
-        Optional<User> byId = userRepository.findById(userId);
-        User user = byId.get();
-        if(BCrypt.checkpw(changeDto.getOldPassword(), user.getPassword())){
-            String newPassword = BCrypt.hashpw(changeDto.getNewPassword(), BCrypt.gensalt(10));
-            user.setPassword(newPassword);
+        UUID id = UserIds.parse(userId);
+        Optional<User> byId = id == null ? Optional.empty() : userRepository.findById(id);
+        User user = byId.orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId));
+        if(passwordHasher.matches(changeDto.getOldPassword(), user.getPassword())){
+            String newPassword = passwordHasher.hash(changeDto.getNewPassword());
+            userRepository.updatePassword(id, newPassword);
+            tokenRevocationList.revokeAllBefore(user.getUsername(), System.currentTimeMillis());
+            principalCache.invalidate(user.getUsername());
+            userCache.invalidateUserId(id.toString());
         }
         else {
             throw new ValidationException("Incorrect Password");
         }
     }
 
+    @Override
+    public void logout(JWTService.VerifiedToken token) {
+        tokenRevocationList.revokeToken(token);
+        principalCache.invalidateToken(token.getToken());
+    }
+
+    @Override
+    public CacheStats getCacheStats() {
+        CacheStats stats = new CacheStats();
+        stats.setHits(userCache.getHits());
+        stats.setMisses(userCache.getMisses());
+        stats.setEvictions(userCache.getEvictions());
+        stats.setSize(userCache.getSize());
+        return stats;
+    }
+
     @Override
     public void forgotPassword(String username) {
         Optional<User> byUsername = userRepository.findByUsername(username);
@@ -154,13 +376,33 @@ public class UserServiceImpl implements UserService {
     }
 
 
-    public User mapToEntity(User user, UserDto userDto) {
-        // Configure ModelMapper to map only non-null fields from the userDto to the user entity.
-        modelMapper.getConfiguration().setPropertyCondition(Conditions.isNotNull());
-        // Map the non-null fields from the userDto to the user entity.
-        modelMapper.map(userDto, user);
+    // Only the unique keys on username and email mean the user exists; any other violation is
+    // left to surface as the server error it is. MySQL reports the key as users.uk_users_...
+    private static boolean isDuplicateUser(DataIntegrityViolationException e) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                String constraint = violation.getConstraintName().toLowerCase(Locale.ROOT);
+                return constraint.endsWith("uk_users_username") || constraint.endsWith("uk_users_email");
+            }
+        }
+        return false;
+    }
+
+    private static String encodeCursor(String userId) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(userId.getBytes(StandardCharsets.UTF_8));
+    }
 
-        return user;
+    private static UUID decodeCursor(String cursor) {
+        UUID afterUserId;
+        try {
+            afterUserId = UserIds.parse(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            afterUserId = null;
+        }
+        if (afterUserId == null) {
+            throw new ValidationException("Invalid cursor: " + cursor);
+        }
+        return afterUserId;
     }
 
 }
@@ -0,0 +1,96 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// Converts users.user_id from the old 36-char VARCHAR UUIDs to BINARY(16).
+//
+// UUID_TO_BIN without the swap flag keeps the standard byte order, which is what the application
+// writes, so every existing id keeps its string form and the REST API returns the same ids as
+// before. Old ids stay random; new ones are time-ordered.
+//
+// A database baselined at 1 may already have BINARY ids (Hibernate created it after the switch),
+// or a half-done run may have left user_id_bin behind, so every step first looks at
+// information_schema. The copy runs in primary key ranges of CHUNK_SIZE rows, each committed on
+// its own, so no single statement locks the whole table.
+public class V2__UserIdToBinary extends BaseJavaMigration {
+
+    private static final int CHUNK_SIZE = 50000;
+
+    private static final String COLUMN_TYPE = "SELECT DATA_TYPE FROM information_schema.COLUMNS "
+            + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'users' AND COLUMN_NAME = ?";
+
+    private static final String CHUNK_END = "SELECT user_id FROM users WHERE user_id > ? ORDER BY user_id LIMIT 1 OFFSET "
+            + (CHUNK_SIZE - 1);
+
+    // DDL commits implicitly on MySQL anyway; without a transaction every chunk commits by itself
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        if (!"varchar".equalsIgnoreCase(columnType(connection, "user_id"))) {
+            return;
+        }
+        if (columnType(connection, "user_id_bin") == null) {
+            execute(connection, "ALTER TABLE users ADD COLUMN user_id_bin BINARY(16) NULL");
+        }
+
+        String from = "";
+        try (PreparedStatement chunkEnd = connection.prepareStatement(CHUNK_END);
+             PreparedStatement copyChunk = connection.prepareStatement(
+                     "UPDATE users SET user_id_bin = UUID_TO_BIN(user_id) WHERE user_id > ? AND user_id <= ?");
+             PreparedStatement copyRest = connection.prepareStatement(
+                     "UPDATE users SET user_id_bin = UUID_TO_BIN(user_id) WHERE user_id > ?")) {
+            while (true) {
+                chunkEnd.setString(1, from);
+                String to;
+                try (ResultSet rs = chunkEnd.executeQuery()) {
+                    to = rs.next() ? rs.getString(1) : null;
+                }
+                if (to == null) {
+                    copyRest.setString(1, from);
+                    copyRest.executeUpdate();
+                    break;
+                }
+                copyChunk.setString(1, from);
+                copyChunk.setString(2, to);
+                copyChunk.executeUpdate();
+                from = to;
+            }
+        }
+
+        // One table rebuild: the new primary key is laid out in id order. Secondary indexes carry the
+        // primary key, so they shrink from a 36-byte to a 16-byte suffix per entry.
+        execute(connection, "ALTER TABLE users "
+                + "DROP PRIMARY KEY, "
+                + "DROP COLUMN user_id, "
+                + "CHANGE COLUMN user_id_bin user_id BINARY(16) NOT NULL, "
+                + "ADD PRIMARY KEY (user_id)");
+    }
+
+    // null when the column does not exist
+    private static String columnType(Connection connection, String column) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(COLUMN_TYPE)) {
+            statement.setString(1, column);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        }
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// Gives a database that Hibernate created, and that was baselined past V1, the unique keys V1
+// declares. The original entity had no unique key on username and let Hibernate name the one on
+// email (UK_ followed by a hash); signup tells a duplicate apart from other integrity errors by the
+// names uk_users_username and uk_users_email, so both must exist under exactly those names.
+// A database created by V1 already has them and is left alone.
+public class V4__UniqueUserKeys extends BaseJavaMigration {
+
+    // constraint name -> column, for the single-column unique keys on users
+    private static final String UNIQUE_KEYS = "SELECT tc.CONSTRAINT_NAME, kcu.COLUMN_NAME "
+            + "FROM information_schema.TABLE_CONSTRAINTS tc "
+            + "JOIN information_schema.KEY_COLUMN_USAGE kcu ON kcu.CONSTRAINT_SCHEMA = tc.CONSTRAINT_SCHEMA "
+            + "AND kcu.CONSTRAINT_NAME = tc.CONSTRAINT_NAME AND kcu.TABLE_NAME = tc.TABLE_NAME "
+            + "WHERE tc.TABLE_SCHEMA = ? AND tc.TABLE_NAME = 'users' AND tc.CONSTRAINT_TYPE = 'UNIQUE'";
+
+    private static final String DUPLICATE_USERNAMES =
+            "SELECT COUNT(*) FROM (SELECT username FROM users GROUP BY username HAVING COUNT(*) > 1) duplicates";
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        String usernameKey = null;
+        String emailKey = null;
+        boolean hasUsernameKey = false;
+        boolean hasEmailKey = false;
+        try (PreparedStatement statement = connection.prepareStatement(UNIQUE_KEYS)) {
+            // MySQL calls the database a catalog, information_schema calls it a schema
+            statement.setString(1, connection.getSchema() != null ? connection.getSchema() : connection.getCatalog());
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    String name = rs.getString(1);
+                    String column = rs.getString(2);
+                    if ("username".equalsIgnoreCase(column)) {
+                        hasUsernameKey |= "uk_users_username".equalsIgnoreCase(name);
+                        usernameKey = name;
+                    } else if ("email".equalsIgnoreCase(column)) {
+                        hasEmailKey |= "uk_users_email".equalsIgnoreCase(name);
+                        emailKey = name;
+                    }
+                }
+            }
+        }
+
+        if (!hasUsernameKey) {
+            long duplicates = count(connection, DUPLICATE_USERNAMES);
+            if (duplicates > 0) {
+                throw new IllegalStateException(duplicates + " usernames belong to more than one user; "
+                        + "rename or remove the extra accounts before uk_users_username can be added");
+            }
+            replaceKey(connection, usernameKey, "uk_users_username", "username");
+        }
+        if (!hasEmailKey) {
+            replaceKey(connection, emailKey, "uk_users_email", "email");
+        }
+    }
+
+    // Adds the key under its expected name, then drops the one it replaces, if any; the column
+    // is never without a unique key in between.
+    private static void replaceKey(Connection connection, String existing, String name, String column)
+            throws SQLException {
+        execute(connection, "ALTER TABLE users ADD CONSTRAINT " + name + " UNIQUE (" + column + ")");
+        if (existing != null) {
+            execute(connection, "ALTER TABLE users DROP CONSTRAINT " + existing);
+        }
+    }
+
+    private static long count(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
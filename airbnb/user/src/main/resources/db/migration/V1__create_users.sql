@@ -0,0 +1,15 @@
+-- The users table for a new database. One that Hibernate created from the old entity is baselined
+-- past this script; V4 gives it the uk_users_username and uk_users_email keys declared here.
+
+CREATE TABLE users (
+    user_id    VARCHAR(255) NOT NULL,
+    username   VARCHAR(20)  NOT NULL,
+    email      VARCHAR(100) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    first_name VARCHAR(10)  NOT NULL,
+    last_name  VARCHAR(10)  NOT NULL,
+    user_role  VARCHAR(20)  NOT NULL,
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB;
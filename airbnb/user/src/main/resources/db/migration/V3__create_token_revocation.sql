@@ -0,0 +1,17 @@
+-- Logged-out token ids, kept until the token would have expired anyway, and per-user cutoffs
+-- set on password change or deletion. IF NOT EXISTS lets a database that already has them, but
+-- was baselined at an earlier version, pass through.
+
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    jti        VARCHAR(36) NOT NULL,
+    username   VARCHAR(20) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (jti),
+    INDEX idx_revoked_tokens_expires_at (expires_at)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS token_cutoffs (
+    username       VARCHAR(20) NOT NULL,
+    revoked_before DATETIME(6) NOT NULL,
+    PRIMARY KEY (username)
+) ENGINE = InnoDB;
@@ -0,0 +1,55 @@
+package com.user.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserIdsTests {
+
+	@Test
+	void idsIncreaseWithinOneMillisecond() {
+		// far more ids than fit in a millisecond's worth of wall clock, so many share one
+		byte[] previous = UserIds.toBytes(UserIds.newId());
+		for (int i = 0; i < 20_000; i++) {
+			byte[] next = UserIds.toBytes(UserIds.newId());
+			// unsigned byte order is the order of the BINARY(16) primary key
+			assertThat(Arrays.compareUnsigned(previous, next)).isNegative();
+			previous = next;
+		}
+	}
+
+	@Test
+	void carriesVersionSevenVariantAndTimestamp() {
+		long before = System.currentTimeMillis();
+		UUID id = UserIds.newId();
+		long after = System.currentTimeMillis();
+
+		assertThat(id.version()).isEqualTo(7);
+		assertThat(id.variant()).isEqualTo(2);
+		// a burst of ids elsewhere in this JVM may have borrowed a few milliseconds ahead
+		assertThat(id.getMostSignificantBits() >>> 16).isBetween(before, after + 1000);
+	}
+
+	@Test
+	void bytesRoundTripInUuidToBinOrder() {
+		UUID id = UUID.fromString("0190d5b4-3c2a-7e51-9a2b-5f1c2d3e4f60");
+		byte[] bytes = UserIds.toBytes(id);
+
+		assertThat(HexFormat.of().formatHex(bytes)).isEqualTo("0190d5b43c2a7e519a2b5f1c2d3e4f60");
+		assertThat(UserIds.fromBytes(bytes)).isEqualTo(id);
+		UUID generated = UserIds.newId();
+		assertThat(UserIds.fromBytes(UserIds.toBytes(generated))).isEqualTo(generated);
+	}
+
+	@Test
+	void parseRejectsAnythingButAUuid() {
+		assertThat(UserIds.parse("0190d5b4-3c2a-7e51-9a2b-5f1c2d3e4f60")).isNotNull();
+		assertThat(UserIds.parse(null)).isNull();
+		assertThat(UserIds.parse("42")).isNull();
+		assertThat(UserIds.parse("0190d5b4-3c2a-7e51-9a2b-5f1c2d3e4fzz")).isNull();
+	}
+}
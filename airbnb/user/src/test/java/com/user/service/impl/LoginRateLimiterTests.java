@@ -0,0 +1,80 @@
+package com.user.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoginRateLimiterTests {
+
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	private LoginRateLimiter limiter;
+
+	@BeforeEach
+	void setUp() {
+		limiter = new LoginRateLimiter();
+		ReflectionTestUtils.setField(limiter, "usernamePerMinute", 60);
+		ReflectionTestUtils.setField(limiter, "usernameBurst", 3);
+		ReflectionTestUtils.setField(limiter, "ipPerMinute", 600);
+		ReflectionTestUtils.setField(limiter, "ipBurst", 100);
+		ReflectionTestUtils.setField(limiter, "maxKeys", 2);
+		limiter.postConstruct();
+	}
+
+	@Test
+	void allowsABurstThenOneAttemptPerInterval() {
+		long now = 1_000 * SECOND;
+		for (int i = 0; i < 3; i++) {
+			assertThat(limiter.tryAcquire("alice", "10.0.0.1", now)).isTrue();
+		}
+		assertThat(limiter.tryAcquire("alice", "10.0.0.1", now)).isFalse();
+		assertThat(limiter.tryAcquire("alice", "10.0.0.1", now + SECOND / 2)).isFalse();
+		assertThat(limiter.tryAcquire("alice", "10.0.0.1", now + SECOND)).isTrue();
+		assertThat(limiter.tryAcquire("alice", "10.0.0.1", now + SECOND)).isFalse();
+		assertThat(limiter.getRejectedByUsername()).isEqualTo(3);
+	}
+
+	@Test
+	void sharesOneBucketAcrossCaseVariantsOfAUsername() {
+		long now = 1_000 * SECOND;
+		assertThat(limiter.tryAcquire("alice", "10.0.0.1", now)).isTrue();
+		assertThat(limiter.tryAcquire("Alice", "10.0.0.1", now)).isTrue();
+		assertThat(limiter.tryAcquire("ALICE", "10.0.0.1", now)).isTrue();
+		assertThat(limiter.tryAcquire("aLiCe", "10.0.0.1", now)).isFalse();
+		assertThat(limiter.getRejectedByUsername()).isEqualTo(1);
+	}
+
+	@Test
+	void refillsToTheFullBurstAfterIdling() {
+		long now = 1_000 * SECOND;
+		for (int i = 0; i < 3; i++) {
+			limiter.tryAcquire("alice", "10.0.0.1", now);
+		}
+		long later = now + 60 * SECOND;
+		for (int i = 0; i < 3; i++) {
+			assertThat(limiter.tryAcquire("alice", "10.0.0.1", later)).isTrue();
+		}
+		assertThat(limiter.tryAcquire("alice", "10.0.0.1", later)).isFalse();
+	}
+
+	@Test
+	void refusesNewKeysWhileEveryTrackedKeyIsActive() {
+		long now = 1_000 * SECOND;
+		assertThat(limiter.tryAcquire("alice", "10.0.0.1", now)).isTrue();
+		assertThat(limiter.tryAcquire("bob", "10.0.0.1", now)).isTrue();
+		assertThat(limiter.tryAcquire("carol", "10.0.0.1", now)).isFalse();
+		assertThat(limiter.tryAcquire("alice", "10.0.0.1", now)).isTrue();
+	}
+
+	@Test
+	void evictsAnIdleBucketToMakeRoom() {
+		long now = 1_000 * SECOND;
+		assertThat(limiter.tryAcquire("alice", "10.0.0.1", now)).isTrue();
+		assertThat(limiter.tryAcquire("bob", "10.0.0.1", now)).isTrue();
+		assertThat(limiter.tryAcquire("carol", "10.0.0.1", now + 2 * SECOND)).isTrue();
+	}
+}
@@ -0,0 +1,92 @@
+package com.user.service.impl;
+
+import com.user.config.UserMetrics;
+import com.user.entity.User;
+import com.user.repo.RevokedTokenRepository;
+import com.user.repo.TokenCutoffRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class TokenRevocationListTests {
+
+	private static final long EXPIRY = 3_600_000;
+
+	private JWTService jwtService;
+	private TokenRevocationList revocationList;
+
+	@BeforeEach
+	void setUp() {
+		jwtService = new JWTService(new UserMetrics(new SimpleMeterRegistry()));
+		ReflectionTestUtils.setField(jwtService, "algorithmKey", "test-key");
+		ReflectionTestUtils.setField(jwtService, "issuer", "test");
+		ReflectionTestUtils.setField(jwtService, "expiryTime", (int) EXPIRY);
+		ReflectionTestUtils.setField(jwtService, "verifiedCacheSize", 16);
+		jwtService.postConstruct();
+
+		revocationList = new TokenRevocationList(mock(RevokedTokenRepository.class), mock(TokenCutoffRepository.class));
+		ReflectionTestUtils.setField(revocationList, "expiryTime", EXPIRY);
+		ReflectionTestUtils.setField(revocationList, "expectedTokens", 1000);
+		revocationList.load();
+	}
+
+	@Test
+	void revokesLoggedOutTokensOnly() {
+		List<JWTService.VerifiedToken> revoked = new ArrayList<>();
+		List<JWTService.VerifiedToken> live = new ArrayList<>();
+		for (int i = 0; i < 500; i++) {
+			revoked.add(token("user" + i));
+			live.add(token("user" + i));
+		}
+		revoked.forEach(revocationList::revokeToken);
+
+		assertThat(revoked).allMatch(revocationList::isRevoked);
+		assertThat(live).noneMatch(revocationList::isRevoked);
+	}
+
+	@Test
+	void cutoffCoversTokensIssuedEarlierInTheSameSecond() {
+		JWTService.VerifiedToken token = token("alice");
+		revocationList.revokeAllBefore("alice", System.currentTimeMillis());
+
+		assertThat(revocationList.isRevoked(token)).isTrue();
+		assertThat(revocationList.isRevoked(token("bob"))).isFalse();
+	}
+
+	@Test
+	void cutoffSparesTokensFromLaterSeconds() {
+		JWTService.VerifiedToken token = token("alice");
+		revocationList.revokeAllBefore("alice", token.getIssuedAt() - 1000);
+
+		assertThat(revocationList.isRevoked(token)).isFalse();
+	}
+
+	@Test
+	void pruneDropsEntriesOnceTheirTokensHaveExpired() {
+		JWTService.VerifiedToken loggedOut = token("alice");
+		revocationList.revokeToken(loggedOut);
+		revocationList.revokeAllBefore("bob", System.currentTimeMillis());
+
+		revocationList.prune(loggedOut.getExpiresAt() - 1);
+		assertThat(revocationList.size()).isEqualTo(2);
+		assertThat(revocationList.isRevoked(loggedOut)).isTrue();
+
+		revocationList.prune(loggedOut.getExpiresAt());
+		assertThat(revocationList.isRevoked(loggedOut)).isFalse();
+		revocationList.prune(System.currentTimeMillis() + EXPIRY + 1000);
+		assertThat(revocationList.size()).isZero();
+	}
+
+	private JWTService.VerifiedToken token(String username) {
+		User user = new User();
+		user.setUsername(username);
+		return jwtService.verify(jwtService.generateToken(user));
+	}
+}
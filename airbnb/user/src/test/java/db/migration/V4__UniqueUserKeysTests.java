@@ -0,0 +1,97 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.Context;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class V4__UniqueUserKeysTests {
+
+	private Connection connection;
+	private Context context;
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		connection = DriverManager.getConnection("jdbc:h2:mem:" + System.nanoTime() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE");
+		context = mock(Context.class);
+		when(context.getConnection()).thenReturn(connection);
+	}
+
+	@AfterEach
+	void tearDown() throws SQLException {
+		connection.close();
+	}
+
+	@Test
+	void bringsABaselineSchemaInLine() throws SQLException {
+		// users as ddl-auto created it from the original entity: only email unique, under a generated name
+		execute("CREATE TABLE users (user_id VARCHAR(255) NOT NULL, username VARCHAR(20) NOT NULL, "
+				+ "email VARCHAR(100) NOT NULL, password VARCHAR(255) NOT NULL, first_name VARCHAR(10) NOT NULL, "
+				+ "last_name VARCHAR(10) NOT NULL, user_role VARCHAR(20) NOT NULL, PRIMARY KEY (user_id), "
+				+ "CONSTRAINT UK_6dotkott2kjsp8vw4d0m25fb7 UNIQUE (email))");
+		execute("INSERT INTO users VALUES ('1', 'alice', 'alice@example.com', 'x', 'Alice', 'Doe', 'ROLE_USER')");
+
+		new V4__UniqueUserKeys().migrate(context);
+
+		assertThat(uniqueKeys()).containsOnly(Map.entry("uk_users_username", "username"), Map.entry("uk_users_email", "email"));
+		assertThatThrownBy(() -> execute("INSERT INTO users VALUES ('2', 'alice', 'other@example.com', 'x', 'A', 'B', 'ROLE_USER')"))
+				.isInstanceOf(SQLException.class);
+		assertThatThrownBy(() -> execute("INSERT INTO users VALUES ('3', 'bob', 'alice@example.com', 'x', 'A', 'B', 'ROLE_USER')"))
+				.isInstanceOf(SQLException.class);
+	}
+
+	@Test
+	void leavesASchemaFromV1Alone() throws SQLException {
+		execute("CREATE TABLE users (user_id VARCHAR(255) NOT NULL, username VARCHAR(20) NOT NULL, "
+				+ "email VARCHAR(100) NOT NULL, PRIMARY KEY (user_id), "
+				+ "CONSTRAINT uk_users_username UNIQUE (username), CONSTRAINT uk_users_email UNIQUE (email))");
+
+		new V4__UniqueUserKeys().migrate(context);
+
+		assertThat(uniqueKeys()).containsOnly(Map.entry("uk_users_username", "username"), Map.entry("uk_users_email", "email"));
+	}
+
+	@Test
+	void refusesToRunOverDuplicateUsernames() throws SQLException {
+		execute("CREATE TABLE users (user_id VARCHAR(255) NOT NULL, username VARCHAR(20) NOT NULL, "
+				+ "email VARCHAR(100) NOT NULL, PRIMARY KEY (user_id))");
+		execute("INSERT INTO users VALUES ('1', 'alice', 'a@example.com'), ('2', 'alice', 'b@example.com')");
+
+		assertThatThrownBy(() -> new V4__UniqueUserKeys().migrate(context))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("1 usernames");
+	}
+
+	private Map<String, String> uniqueKeys() throws SQLException {
+		Map<String, String> keys = new HashMap<>();
+		try (Statement statement = connection.createStatement();
+			 ResultSet rs = statement.executeQuery("SELECT tc.constraint_name, kcu.column_name "
+					 + "FROM information_schema.table_constraints tc JOIN information_schema.key_column_usage kcu "
+					 + "ON kcu.constraint_name = tc.constraint_name WHERE tc.table_name = 'users' "
+					 + "AND tc.constraint_type = 'UNIQUE'")) {
+			while (rs.next()) {
+				keys.put(rs.getString(1).toLowerCase(), rs.getString(2));
+			}
+		}
+		return keys;
+	}
+
+	private void execute(String sql) throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute(sql);
+		}
+	}
+}